@@ -0,0 +1,12 @@
+package com.codeflix.catalog.admin.application.category.create;
+
+import java.util.List;
+
+import com.codeflix.catalog.admin.application.UserCase;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public abstract class CreateCategoriesUseCase
+        extends UserCase<List<CreateCategoryCommand>, List<Either<Notification, CreateCategoryOutput>>> {
+}
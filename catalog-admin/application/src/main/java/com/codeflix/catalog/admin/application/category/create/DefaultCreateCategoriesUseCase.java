@@ -0,0 +1,76 @@
+package com.codeflix.catalog.admin.application.category.create;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+    public static final int CHUNK_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+    private final CategoryIdGenerator categoryIdGenerator;
+
+    public DefaultCreateCategoriesUseCase(
+            final CategoryGateway categoryGateway,
+            final CategoryIdGenerator categoryIdGenerator) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categoryIdGenerator = Objects.requireNonNull(categoryIdGenerator);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> aCommands) {
+        if (aCommands.size() > MAX_ITEMS) {
+            throw DomainException.with(new Error("'items' must have at most %d elements".formatted(MAX_ITEMS)));
+        }
+
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(
+                Collections.nCopies(aCommands.size(), null));
+        final var validIndexes = new ArrayList<Integer>();
+        final var validCategories = new ArrayList<Category>();
+
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            final var aCategory = Category.newCategory(
+                    this.categoryIdGenerator.next(), aCommand.name(), aCommand.description(), aCommand.isActive());
+
+            final var notification = Notification.create();
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                results.set(i, Either.left(notification));
+            } else {
+                validIndexes.add(i);
+                validCategories.add(aCategory);
+            }
+        }
+
+        for (int from = 0; from < validCategories.size(); from += CHUNK_SIZE) {
+            final var to = Math.min(from + CHUNK_SIZE, validCategories.size());
+            final var aChunk = validCategories.subList(from, to);
+            final var chunkIndexes = validIndexes.subList(from, to);
+
+            final var created = API.Try(() -> this.categoryGateway.createAll(aChunk)).toEither();
+
+            for (int i = 0; i < aChunk.size(); i++) {
+                final var aCategory = aChunk.get(i);
+                results.set(chunkIndexes.get(i), created
+                        .bimap(Notification::create, it -> CreateCategoryOutput.from(aCategory)));
+            }
+        }
+
+        return results;
+    }
+}
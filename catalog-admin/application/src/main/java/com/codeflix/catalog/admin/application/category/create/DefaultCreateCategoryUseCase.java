@@ -4,6 +4,7 @@ import java.util.Objects;
 
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
 import com.codeflix.catalog.admin.domain.validation.handler.Notification;
 
 import io.vavr.API;
@@ -12,15 +13,19 @@ import io.vavr.control.Either;
 public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final CategoryIdGenerator categoryIdGenerator;
 
-    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+    public DefaultCreateCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final CategoryIdGenerator categoryIdGenerator) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categoryIdGenerator = Objects.requireNonNull(categoryIdGenerator);
     }
 
     @Override
     public Either<Notification, CreateCategoryOutput> execute(final CreateCategoryCommand aCommand) {
         final var aCategory = Category.newCategory(
-                aCommand.name(), aCommand.description(), aCommand.isActive());
+                this.categoryIdGenerator.next(), aCommand.name(), aCommand.description(), aCommand.isActive());
 
         final var notification = Notification.create();
         aCategory.validate(notification);
@@ -0,0 +1,40 @@
+package com.codeflix.catalog.admin.application.category.delete;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final List<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return;
+        }
+
+        final var ids = anIds.stream()
+                .filter(Objects::nonNull)
+                .map(CategoryID::from)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (ids.size() > MAX_ITEMS) {
+            throw DomainException.with(new Error("'ids' must have at most %d elements".formatted(MAX_ITEMS)));
+        }
+
+        this.categoryGateway.deleteAllByIds(ids);
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeflix.catalog.admin.application.category.delete;
+
+import java.util.List;
+
+import com.codeflix.catalog.admin.application.UnitUseCase;
+
+public abstract class DeleteCategoriesUseCase extends UnitUseCase<List<String>> {
+}
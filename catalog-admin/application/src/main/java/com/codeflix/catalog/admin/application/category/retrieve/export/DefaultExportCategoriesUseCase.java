@@ -0,0 +1,21 @@
+package com.codeflix.catalog.admin.application.category.retrieve.export;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryOutput> aConsumer) {
+        this.categoryGateway.streamAll(aCategory -> aConsumer.accept(CategoryOutput.from(aCategory)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.codeflix.catalog.admin.application.category.retrieve.export;
+
+import java.util.function.Consumer;
+
+import com.codeflix.catalog.admin.application.UnitUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<CategoryOutput>> {
+}
@@ -0,0 +1,9 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import java.util.concurrent.CompletionStage;
+
+import com.codeflix.catalog.admin.application.UserCase;
+
+public abstract class AsyncGetCategoryByIdUseCase extends UserCase<String, CompletionStage<CategoryOutput>> {
+
+}
@@ -12,7 +12,8 @@ public record CategoryOutput(
         boolean isActive,
         Instant createdAt,
         Instant updatedAt,
-        Instant deletedAt) {
+        Instant deletedAt,
+        long version) {
 
     public static CategoryOutput from(final Category aCategory) {
         return new CategoryOutput(
@@ -22,6 +23,7 @@ public record CategoryOutput(
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt());
+                aCategory.getDeletedAt(),
+                aCategory.getVersion());
     }
 }
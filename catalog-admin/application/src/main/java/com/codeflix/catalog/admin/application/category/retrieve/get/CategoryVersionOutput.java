@@ -0,0 +1,16 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import java.time.Instant;
+
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+
+public record CategoryVersionOutput(
+        CategoryID id,
+        long version,
+        Instant updatedAt) {
+
+    public static CategoryVersionOutput from(final CategoryVersion aVersion) {
+        return new CategoryVersionOutput(aVersion.id(), aVersion.version(), aVersion.updatedAt());
+    }
+}
@@ -0,0 +1,33 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import com.codeflix.catalog.admin.domain.category.AsyncCategoryGateway;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+public class DefaultAsyncGetCategoryByIdUseCase extends AsyncGetCategoryByIdUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncGetCategoryByIdUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletionStage<CategoryOutput> execute(final String anIn) {
+        final var aCategoryId = CategoryID.from(anIn);
+
+        return this.categoryGateway.findById(aCategoryId)
+                .thenApply(aCategory -> aCategory
+                        .map(CategoryOutput::from)
+                        .orElseThrow(notFound(aCategoryId)));
+    }
+
+    private Supplier<NotFoundException> notFound(final CategoryID anId) {
+        return () -> NotFoundException.with(Category.class, anId);
+    }
+}
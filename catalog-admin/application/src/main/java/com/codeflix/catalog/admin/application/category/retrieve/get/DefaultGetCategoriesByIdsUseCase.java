@@ -0,0 +1,49 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    public static final int MAX_IDS = 500;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<CategoryOutput> execute(final List<String> anIn) {
+        if (anIn == null || anIn.isEmpty()) {
+            return List.of();
+        }
+
+        final var ids = anIn.stream()
+                .filter(Objects::nonNull)
+                .map(CategoryID::from)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (ids.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' must have at most %d elements".formatted(MAX_IDS)));
+        }
+
+        final var found = this.categoryGateway.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity(), (first, second) -> first));
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(CategoryOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+public class DefaultGetCategoryVersionUseCase extends GetCategoryVersionUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryVersionUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryVersionOutput execute(final String anIn) {
+        final var aCategoryId = CategoryID.from(anIn);
+
+        return this.categoryGateway.findVersionById(aCategoryId)
+                .map(CategoryVersionOutput::from)
+                .orElseThrow(notFound(aCategoryId));
+    }
+
+    private Supplier<NotFoundException> notFound(final CategoryID anId) {
+        return () -> NotFoundException.with(Category.class, anId);
+    }
+}
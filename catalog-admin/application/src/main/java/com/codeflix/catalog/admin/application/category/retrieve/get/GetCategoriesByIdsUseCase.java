@@ -0,0 +1,9 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import java.util.List;
+
+import com.codeflix.catalog.admin.application.UserCase;
+
+public abstract class GetCategoriesByIdsUseCase extends UserCase<List<String>, List<CategoryOutput>> {
+
+}
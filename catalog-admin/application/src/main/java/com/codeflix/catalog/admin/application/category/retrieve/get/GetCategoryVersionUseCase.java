@@ -0,0 +1,7 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import com.codeflix.catalog.admin.application.UserCase;
+
+public abstract class GetCategoryVersionUseCase extends UserCase<String, CategoryVersionOutput> {
+
+}
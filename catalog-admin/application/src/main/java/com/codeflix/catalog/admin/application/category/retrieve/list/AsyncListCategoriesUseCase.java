@@ -0,0 +1,12 @@
+package com.codeflix.catalog.admin.application.category.retrieve.list;
+
+import java.util.concurrent.CompletionStage;
+
+import com.codeflix.catalog.admin.application.UserCase;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+public abstract class AsyncListCategoriesUseCase
+        extends UserCase<CategorySearchQuery, CompletionStage<Pagination<CategoryListOutput>>> {
+
+}
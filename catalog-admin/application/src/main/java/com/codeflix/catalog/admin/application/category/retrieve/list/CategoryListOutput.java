@@ -11,7 +11,8 @@ public record CategoryListOutput(
         String description,
         boolean isActive,
         Instant createdAt,
-        Instant deletedAt) {
+        Instant deletedAt,
+        long version) {
 
     public static CategoryListOutput from(final Category aCategory) {
         return new CategoryListOutput(
@@ -20,6 +21,7 @@ public record CategoryListOutput(
                 aCategory.getDescription(),
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
-                aCategory.getDeletedAt());
+                aCategory.getDeletedAt(),
+                aCategory.getVersion());
     }
 }
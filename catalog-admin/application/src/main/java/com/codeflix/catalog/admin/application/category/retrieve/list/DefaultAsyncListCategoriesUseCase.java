@@ -0,0 +1,23 @@
+package com.codeflix.catalog.admin.application.category.retrieve.list;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+import com.codeflix.catalog.admin.domain.category.AsyncCategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+public class DefaultAsyncListCategoriesUseCase extends AsyncListCategoriesUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncListCategoriesUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletionStage<Pagination<CategoryListOutput>> execute(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAll(aQuery)
+                .thenApply(aPage -> aPage.map(CategoryListOutput::from));
+    }
+}
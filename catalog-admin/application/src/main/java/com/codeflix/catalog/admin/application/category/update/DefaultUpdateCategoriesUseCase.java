@@ -0,0 +1,144 @@
+package com.codeflix.catalog.admin.application.category.update;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.API;
+import io.vavr.control.Either;
+
+public class DefaultUpdateCategoriesUseCase extends UpdateCategoriesUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+    public static final int CHUNK_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultUpdateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, UpdateCategoryOutput>> execute(final List<UpdateCategoryCommand> aCommands) {
+        if (aCommands.size() > MAX_ITEMS) {
+            throw DomainException.with(new Error("'items' must have at most %d elements".formatted(MAX_ITEMS)));
+        }
+
+        final var results = new ArrayList<Either<Notification, UpdateCategoryOutput>>(aCommands.size());
+        final var duplicates = duplicateIds(aCommands);
+
+        for (int from = 0; from < aCommands.size(); from += CHUNK_SIZE) {
+            results.addAll(update(
+                    aCommands.subList(from, Math.min(from + CHUNK_SIZE, aCommands.size())), duplicates));
+        }
+
+        return results;
+    }
+
+    // two commands for one id would update the same loaded instance and only the last one would be written, so
+    // every occurrence of a repeated id is rejected instead of guessing which one the caller meant
+    private static Set<String> duplicateIds(final List<UpdateCategoryCommand> aCommands) {
+        final var seen = new HashSet<String>();
+        return aCommands.stream()
+                .map(UpdateCategoryCommand::id)
+                .filter(Objects::nonNull)
+                .filter(anId -> !seen.add(anId))
+                .collect(Collectors.toSet());
+    }
+
+    private List<Either<Notification, UpdateCategoryOutput>> update(
+            final List<UpdateCategoryCommand> aChunk,
+            final Set<String> duplicates) {
+        final var ids = aChunk.stream()
+                .map(UpdateCategoryCommand::id)
+                .filter(anId -> anId != null && !duplicates.contains(anId))
+                .map(CategoryID::from)
+                .collect(Collectors.toSet());
+
+        final var existing = ids.isEmpty()
+                ? Map.<CategoryID, Category>of()
+                : this.categoryGateway.findAllByIdsForUpdate(ids).stream()
+                        .collect(Collectors.toMap(Category::getId, Function.identity(), (first, second) -> first));
+
+        final var results = new ArrayList<Either<Notification, UpdateCategoryOutput>>(
+                Collections.nCopies(aChunk.size(), null));
+        final var validIndexes = new ArrayList<Integer>();
+        final var validCategories = new ArrayList<Category>();
+
+        for (int i = 0; i < aChunk.size(); i++) {
+            final var aCommand = aChunk.get(i);
+
+            if (aCommand.id() == null) {
+                results.set(i, Either.left(Notification.create(new Error("'id' should not be null"))));
+                continue;
+            }
+
+            if (duplicates.contains(aCommand.id())) {
+                results.set(i, Either.left(Notification.create(
+                        new Error("'id' %s appears more than once in the request".formatted(aCommand.id())))));
+                continue;
+            }
+
+            final var anId = CategoryID.from(aCommand.id());
+            final var aCategory = existing.get(anId);
+
+            if (aCategory == null) {
+                results.set(i, Either.left(Notification.create(NotFoundException.with(Category.class, anId))));
+                continue;
+            }
+
+            final var notification = Notification.create();
+            aCategory
+                    .update(aCommand.name(), aCommand.description(), aCommand.isActive())
+                    .validate(notification);
+
+            if (notification.hasError()) {
+                results.set(i, Either.left(notification));
+            } else {
+                validIndexes.add(i);
+                validCategories.add(aCategory);
+            }
+        }
+
+        final var updated = validCategories.isEmpty()
+                ? Either.<Throwable, List<Category>>right(List.of())
+                : API.Try(() -> this.categoryGateway.updateAll(validCategories)).toEither();
+
+        if (updated.isLeft() && updated.getLeft() instanceof ConflictException && validCategories.size() > 1) {
+            for (int i = 0; i < validIndexes.size(); i++) {
+                results.set(validIndexes.get(i), updateOne(validCategories.get(i)));
+            }
+            return results;
+        }
+
+        for (int i = 0; i < validIndexes.size(); i++) {
+            final var anIndex = i;
+            results.set(validIndexes.get(i), updated
+                    .bimap(Notification::create, it -> UpdateCategoryOutput.from(it.get(anIndex))));
+        }
+
+        return results;
+    }
+
+    // a stale item rolls back its whole chunk, so the chunk is replayed one item at a time to fail only that item
+    private Either<Notification, UpdateCategoryOutput> updateOne(final Category aCategory) {
+        return API.Try(() -> this.categoryGateway.update(aCategory))
+                .toEither()
+                .bimap(Notification::create, UpdateCategoryOutput::from);
+    }
+}
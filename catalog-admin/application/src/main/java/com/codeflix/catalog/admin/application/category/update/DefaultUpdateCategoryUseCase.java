@@ -6,7 +6,9 @@ import java.util.function.Supplier;
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import com.codeflix.catalog.admin.domain.exceptions.PreconditionFailedException;
 import com.codeflix.catalog.admin.domain.validation.handler.Notification;
 
 import io.vavr.API;
@@ -14,6 +16,8 @@ import io.vavr.control.Either;
 
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
+    public static final int UNCONDITIONAL_ATTEMPTS = 3;
+
     private final CategoryGateway categoryGateway;
 
     public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
@@ -24,7 +28,33 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand aCommand) {
         final var anId = CategoryID.from(aCommand.id());
 
-        final var aCategory = this.categoryGateway.findById(anId).orElseThrow(notFound(anId));
+        // with an expected version a lost race means the caller's precondition no longer holds, so it is not replayed
+        if (aCommand.expectedVersion() != null) {
+            try {
+                return execute(anId, aCommand);
+            } catch (final ConflictException ex) {
+                throw PreconditionFailedException.with(Category.class, anId);
+            }
+        }
+
+        // without one the caller asked for last-writer-wins, so a lost race is replayed on a fresh read
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return execute(anId, aCommand);
+            } catch (final ConflictException ex) {
+                if (attempt >= UNCONDITIONAL_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private Either<Notification, UpdateCategoryOutput> execute(final CategoryID anId, final UpdateCategoryCommand aCommand) {
+        final var aCategory = this.categoryGateway.findByIdForUpdate(anId).orElseThrow(notFound(anId));
+
+        if (aCommand.expectedVersion() != null && aCommand.expectedVersion() != aCategory.getVersion()) {
+            throw PreconditionFailedException.with(Category.class, anId);
+        }
 
         final var notification = Notification.create();
         aCategory
@@ -39,7 +69,14 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     }
 
     private Either<Notification, UpdateCategoryOutput> update(Category aCategory) {
-        return API.Try(() -> this.categoryGateway.update(aCategory))
+        final var anUpdate = API.Try(() -> this.categoryGateway.update(aCategory));
+
+        // a lost race is not a validation error, callers retry it with a fresh read
+        if (anUpdate.isFailure() && anUpdate.getCause() instanceof ConflictException ex) {
+            throw ex;
+        }
+
+        return anUpdate
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
@@ -0,0 +1,12 @@
+package com.codeflix.catalog.admin.application.category.update;
+
+import java.util.List;
+
+import com.codeflix.catalog.admin.application.UserCase;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+public abstract class UpdateCategoriesUseCase
+        extends UserCase<List<UpdateCategoryCommand>, List<Either<Notification, UpdateCategoryOutput>>> {
+}
@@ -2,13 +2,9 @@ package com.codeflix.catalog.admin.application.category.update;
 
 import com.codeflix.catalog.admin.domain.category.Category;
 
-public record UpdateCategoryOutput(String id) {
-
-    public static UpdateCategoryOutput from(final String anId) {
-        return new UpdateCategoryOutput(anId);
-    }
+public record UpdateCategoryOutput(String id, long version) {
 
     public static UpdateCategoryOutput from(final Category aCategory) {
-        return new UpdateCategoryOutput(aCategory.getId().getValue());
+        return new UpdateCategoryOutput(aCategory.getId().getValue(), aCategory.getVersion());
     }
 }
\ No newline at end of file
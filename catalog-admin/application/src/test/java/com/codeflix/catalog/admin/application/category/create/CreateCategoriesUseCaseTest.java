@@ -0,0 +1,113 @@
+package com.codeflix.catalog.admin.application.category.create;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+
+@ExtendWith(MockitoExtension.class)
+class CreateCategoriesUseCaseTest {
+
+    DefaultCreateCategoriesUseCase defaultCreateCategoriesUseCase;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Captor
+    ArgumentCaptor<List<Category>> categoriesCaptor;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+        defaultCreateCategoriesUseCase = new DefaultCreateCategoriesUseCase(categoryGateway, CategoryIdGenerator.RANDOM);
+    }
+
+    @Test
+    void givenValidAndInvalidCommands_whenCallsCreateCategories_thenShouldPersistOnlyValidOnes() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Séries", null, false));
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = defaultCreateCategoriesUseCase.execute(aCommands);
+
+        assertEquals(3, actualOutput.size());
+        assertTrue(actualOutput.get(0).isRight());
+        assertEquals(expectedErrorMessage, actualOutput.get(1).getLeft().getErrors().get(0).message());
+        assertTrue(actualOutput.get(2).isRight());
+
+        verify(categoryGateway, times(1)).createAll(categoriesCaptor.capture());
+
+        final var persisted = categoriesCaptor.getValue();
+        assertEquals(2, persisted.size());
+        assertEquals(persisted.get(0).getId().getValue(), actualOutput.get(0).get().id());
+        assertEquals(persisted.get(1).getId().getValue(), actualOutput.get(2).get().id());
+    }
+
+    @Test
+    void givenMoreCommandsThanChunkSize_whenCallsCreateCategories_thenShouldPersistInChunks() {
+        final var aCommands = Collections.nCopies(
+                DefaultCreateCategoriesUseCase.CHUNK_SIZE + 1, CreateCategoryCommand.with("Filmes", null, true));
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = defaultCreateCategoriesUseCase.execute(aCommands);
+
+        assertEquals(aCommands.size(), actualOutput.size());
+        verify(categoryGateway, times(2)).createAll(any());
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsCreateCategories_thenShouldReturnErrorForEveryItemOfTheChunk() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true));
+
+        when(categoryGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = defaultCreateCategoriesUseCase.execute(aCommands);
+
+        assertEquals(expectedErrorMessage, actualOutput.get(0).getLeft().getErrors().get(0).message());
+        assertEquals(expectedErrorMessage, actualOutput.get(1).getLeft().getErrors().get(0).message());
+    }
+
+    @Test
+    void givenTooManyCommands_whenCallsCreateCategories_thenShouldReturnDomainException() {
+        final var expectedErrorMessage = "'items' must have at most 1000 elements";
+        final var aCommands = Collections.nCopies(
+                DefaultCreateCategoriesUseCase.MAX_ITEMS + 1, CreateCategoryCommand.with("Filmes", null, true));
+
+        final var actualException = assertThrows(
+                DomainException.class,
+                () -> defaultCreateCategoriesUseCase.execute(aCommands));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).createAll(any());
+    }
+}
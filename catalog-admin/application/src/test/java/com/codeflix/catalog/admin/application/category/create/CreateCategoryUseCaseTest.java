@@ -11,13 +11,14 @@ import static org.mockito.Mockito.when;
 
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,7 +26,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class CreateCategoryUseCaseTest {
 
-    @InjectMocks
     DefaultCreateCategoryUseCase defaultCreateCategoryUseCase;
 
     @Mock
@@ -37,6 +37,7 @@ class CreateCategoryUseCaseTest {
     @BeforeEach
     void cleanUp() {
         Mockito.reset(categoryGateway);
+        defaultCreateCategoryUseCase = new DefaultCreateCategoryUseCase(categoryGateway, CategoryIdGenerator.RANDOM);
     }
 
     @Test
@@ -69,6 +70,18 @@ class CreateCategoryUseCaseTest {
         assertNull(aCategory.getDeletedAt());
     }
 
+    @Test
+    void givenAnIdGenerator_whenCallsCreateCategory_thenShouldUseItsId() {
+        final var expectedId = CategoryID.from("123");
+        final var aUseCase = new DefaultCreateCategoryUseCase(categoryGateway, () -> expectedId);
+
+        when(categoryGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = aUseCase.execute(CreateCategoryCommand.with("Filmes", null, true)).get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+    }
+
     @Test
     void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnDomainException() {
         final String expectedName = null;
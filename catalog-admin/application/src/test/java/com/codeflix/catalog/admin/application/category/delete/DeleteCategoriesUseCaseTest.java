@@ -0,0 +1,50 @@
+package com.codeflix.catalog.admin.application.category.delete;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteCategoriesUseCaseTest {
+
+    @InjectMocks
+    DefaultDeleteCategoriesUseCase defaultDeleteCategoriesUseCase;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenIds_whenCallsDeleteCategories_thenShouldDeleteDistinctIdsAtOnce() {
+        defaultDeleteCategoriesUseCase.execute(List.of("123", "456", "123"));
+
+        verify(categoryGateway, times(1))
+                .deleteAllByIds(Set.of(CategoryID.from("123"), CategoryID.from("456")));
+    }
+
+    @Test
+    void givenNoIds_whenCallsDeleteCategories_thenShouldNotCallGateway() {
+        defaultDeleteCategoriesUseCase.execute(List.of());
+
+        verify(categoryGateway, never()).deleteAllByIds(any());
+    }
+}
@@ -2,10 +2,10 @@ package com.codeflix.catalog.admin.application.category.delete;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,7 +39,7 @@ public class DeleteCategoryUseCaseTest {
                 "Film", "A categoria mais assistida", true);
         final var expectedId = aCategory.getId();
 
-        doNothing().when(categoryGateway).deleteById(expectedId);
+        when(categoryGateway.deleteById(expectedId)).thenReturn(1);
 
         assertDoesNotThrow(() -> defaultDeleteCategoryUseCase.execute(expectedId.getValue()));
 
@@ -50,7 +50,7 @@ public class DeleteCategoryUseCaseTest {
     void givenAInvalidId_whenCallsDeleteCategory_thenShouldBeOK() {
         final var expectedId = CategoryID.from("123");
 
-        doNothing().when(categoryGateway).deleteById(expectedId);
+        when(categoryGateway.deleteById(expectedId)).thenReturn(0);
 
         assertDoesNotThrow(() -> defaultDeleteCategoryUseCase.execute(expectedId.getValue()));
 
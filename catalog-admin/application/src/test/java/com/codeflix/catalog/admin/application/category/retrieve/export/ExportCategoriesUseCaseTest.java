@@ -0,0 +1,73 @@
+package com.codeflix.catalog.admin.application.category.retrieve.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+
+    @InjectMocks
+    DefaultExportCategoriesUseCase defaultExportCategoriesUseCase;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenCategories_whenCallsExportCategories_thenShouldPushEveryCategoryInOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", "Uma categoria", false);
+
+        doAnswer(invocation -> {
+            final Consumer<Category> aConsumer = invocation.getArgument(0);
+            aConsumer.accept(filmes);
+            aConsumer.accept(series);
+            return null;
+        }).when(categoryGateway).streamAll(any());
+
+        final var actualOutput = new ArrayList<CategoryOutput>();
+        defaultExportCategoriesUseCase.execute(actualOutput::add);
+
+        assertEquals(List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)), actualOutput);
+        verify(categoryGateway, times(1)).streamAll(any());
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsExportCategories_thenShouldPropagateIt() {
+        final var expectedErrorMessage = "Gateway error";
+
+        doThrow(new IllegalStateException(expectedErrorMessage)).when(categoryGateway).streamAll(any());
+
+        final var actualException = assertThrows(
+                IllegalStateException.class,
+                () -> defaultExportCategoriesUseCase.execute(anOutput -> {
+                }));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
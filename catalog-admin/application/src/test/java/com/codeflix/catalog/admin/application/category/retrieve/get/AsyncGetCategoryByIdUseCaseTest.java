@@ -0,0 +1,84 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.AsyncCategoryGateway;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncGetCategoryByIdUseCaseTest {
+
+    @InjectMocks
+    DefaultAsyncGetCategoryByIdUseCase defaultAsyncGetCategoryByIdUseCase;
+
+    @Mock
+    AsyncCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetCategory_thenShouldCompleteWithCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(Category.with(aCategory))));
+
+        final var actualCategory = defaultAsyncGetCategoryByIdUseCase.execute(expectedId.getValue())
+                .toCompletableFuture().join();
+
+        assertEquals(CategoryOutput.from(aCategory), actualCategory);
+    }
+
+    @Test
+    void givenAInvalidId_whenCallsGetCategory_thenShouldCompleteWithNotFound() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        final var aResult = defaultAsyncGetCategoryByIdUseCase.execute(expectedId.getValue())
+                .toCompletableFuture();
+
+        final var actualException = assertThrows(CompletionException.class, aResult::join);
+
+        assertEquals(NotFoundException.class, actualException.getCause().getClass());
+        assertEquals(expectedErrorMessage, actualException.getCause().getMessage());
+    }
+
+    @Test
+    void givenAValidId_whenGatewayFails_thenShouldCompleteWithException() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Gateway error";
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException(expectedErrorMessage)));
+
+        final var aResult = defaultAsyncGetCategoryByIdUseCase.execute(expectedId.getValue())
+                .toCompletableFuture();
+
+        final var actualException = assertThrows(CompletionException.class, aResult::join);
+
+        assertEquals(expectedErrorMessage, actualException.getCause().getMessage());
+    }
+}
@@ -0,0 +1,86 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoriesByIdsUseCaseTest {
+
+    @InjectMocks
+    DefaultGetCategoriesByIdsUseCase defaultGetCategoriesByIdsUseCase;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenValidIds_whenCallsGetCategories_thenShouldReturnFoundCategoriesInRequestOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var unknownId = CategoryID.from("123");
+
+        when(categoryGateway.findAllByIds(any()))
+                .thenReturn(List.of(Category.with(filmes), Category.with(series)));
+
+        final var actualOutput = defaultGetCategoriesByIdsUseCase.execute(List.of(
+                series.getId().getValue(),
+                unknownId.getValue(),
+                filmes.getId().getValue(),
+                series.getId().getValue()));
+
+        assertEquals(2, actualOutput.size());
+        assertEquals(series.getId(), actualOutput.get(0).id());
+        assertEquals(filmes.getId(), actualOutput.get(1).id());
+
+        verify(categoryGateway, times(1)).findAllByIds(Set.of(series.getId(), unknownId, filmes.getId()));
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsGetCategories_thenShouldNotCallGateway() {
+        assertTrue(defaultGetCategoriesByIdsUseCase.execute(List.of()).isEmpty());
+
+        verify(categoryGateway, never()).findAllByIds(any());
+    }
+
+    @Test
+    void givenTooManyIds_whenCallsGetCategories_thenShouldReturnDomainException() {
+        final var expectedErrorMessage = "'ids' must have at most 500 elements";
+        final var ids = new ArrayList<String>();
+        IntStream.rangeClosed(0, 500).forEach(i -> ids.add(String.valueOf(i)));
+
+        final var actualException = assertThrows(
+                DomainException.class,
+                () -> defaultGetCategoriesByIdsUseCase.execute(ids));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).findAllByIds(any());
+    }
+}
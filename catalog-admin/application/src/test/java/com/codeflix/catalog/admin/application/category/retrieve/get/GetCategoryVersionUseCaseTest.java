@@ -0,0 +1,62 @@
+package com.codeflix.catalog.admin.application.category.retrieve.get;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoryVersionUseCaseTest {
+
+    @InjectMocks
+    DefaultGetCategoryVersionUseCase defaultGetCategoryVersionUseCase;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidId_whenCallsGetCategoryVersion_thenShouldReturnVersionWithoutLoadingTheCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findVersionById(expectedId))
+                .thenReturn(Optional.of(new CategoryVersion(expectedId, 3L, aCategory.getUpdatedAt())));
+
+        final var actualOutput = defaultGetCategoryVersionUseCase.execute(expectedId.getValue());
+
+        assertEquals(expectedId, actualOutput.id());
+        assertEquals(3L, actualOutput.version());
+        assertEquals(aCategory.getUpdatedAt(), actualOutput.updatedAt());
+        verify(categoryGateway, never()).findById(any());
+    }
+
+    @Test
+    void givenAInvalidId_whenCallsGetCategoryVersion_thenShouldReturnNotFound() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        when(categoryGateway.findVersionById(expectedId)).thenReturn(Optional.empty());
+
+        final var actualException = assertThrows(
+                NotFoundException.class,
+                () -> defaultGetCategoryVersionUseCase.execute(expectedId.getValue()));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
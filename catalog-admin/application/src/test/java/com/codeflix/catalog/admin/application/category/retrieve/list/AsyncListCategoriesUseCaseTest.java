@@ -0,0 +1,54 @@
+package com.codeflix.catalog.admin.application.category.retrieve.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.AsyncCategoryGateway;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncListCategoriesUseCaseTest {
+
+    @InjectMocks
+    DefaultAsyncListCategoriesUseCase defaultAsyncListCategoriesUseCase;
+
+    @Mock
+    AsyncCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenAValidQuery_whenCallsListCategories_thenShouldCompleteWithCategories() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, true));
+
+        final var aQuery = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+        final var expectedPagination = new Pagination<>(0, 10, 2, categories);
+
+        when(categoryGateway.findAll(aQuery))
+                .thenReturn(CompletableFuture.completedFuture(expectedPagination));
+
+        final var actualResult = defaultAsyncListCategoriesUseCase.execute(aQuery)
+                .toCompletableFuture().join();
+
+        assertEquals(expectedPagination.map(CategoryListOutput::from).items(), actualResult.items());
+        assertEquals(2, actualResult.total());
+    }
+}
@@ -0,0 +1,174 @@
+package com.codeflix.catalog.admin.application.category.update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateCategoriesUseCaseTest {
+
+    @InjectMocks
+    DefaultUpdateCategoriesUseCase defaultUpdateCategoriesUseCase;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Captor
+    ArgumentCaptor<List<Category>> categoriesCaptor;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    void givenKnownUnknownAndInvalidCommands_whenCallsUpdateCategories_thenShouldUpdateOnlyValidOnes() {
+        final var films = Category.newCategory("Film", null, true);
+        final var series = Category.newCategory("Serie", null, true);
+
+        final var aCommands = List.of(
+                UpdateCategoryCommand.with(films.getId().getValue(), "Filmes", null, true),
+                UpdateCategoryCommand.with("123", "Documentários", null, true),
+                UpdateCategoryCommand.with(series.getId().getValue(), null, null, true));
+
+        when(categoryGateway.findAllByIdsForUpdate(any()))
+                .thenReturn(List.of(Category.with(films), Category.with(series)));
+        when(categoryGateway.updateAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = defaultUpdateCategoriesUseCase.execute(aCommands);
+
+        assertEquals(3, actualOutput.size());
+        assertEquals(films.getId().getValue(), actualOutput.get(0).get().id());
+        assertEquals(
+                "Category with ID 123 was not found",
+                actualOutput.get(1).getLeft().getErrors().get(0).message());
+        assertEquals("'name' should not be null", actualOutput.get(2).getLeft().getErrors().get(0).message());
+
+        verify(categoryGateway, times(1)).findAllByIdsForUpdate(any());
+        verify(categoryGateway, times(1)).updateAll(categoriesCaptor.capture());
+
+        final var updated = categoriesCaptor.getValue();
+        assertEquals(1, updated.size());
+        assertEquals("Filmes", updated.get(0).getName());
+    }
+
+    @Test
+    void givenOnlyUnknownIds_whenCallsUpdateCategories_thenShouldNotCallUpdateAll() {
+        final var aCommands = List.of(UpdateCategoryCommand.with("123", "Filmes", null, true));
+
+        when(categoryGateway.findAllByIdsForUpdate(any())).thenReturn(List.of());
+
+        final var actualOutput = defaultUpdateCategoriesUseCase.execute(aCommands);
+
+        assertTrue(actualOutput.get(0).isLeft());
+        verify(categoryGateway, never()).updateAll(any());
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsUpdateCategories_thenShouldReportTheVersionWritten() {
+        final var films = Category.newCategory("Film", null, true);
+        final var aCommands = List.of(UpdateCategoryCommand.with(films.getId().getValue(), "Filmes", null, true));
+
+        when(categoryGateway.findAllByIdsForUpdate(any())).thenReturn(List.of(Category.with(films)));
+        when(categoryGateway.updateAll(any())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            return categories.stream()
+                    .map(it -> Category.with(
+                            it.getId(), it.getName(), it.getDescription(), it.isActive(),
+                            it.getCreatedAt(), it.getUpdatedAt(), it.getDeletedAt(), it.getVersion() + 1))
+                    .toList();
+        });
+
+        final var actualOutput = defaultUpdateCategoriesUseCase.execute(aCommands);
+
+        assertEquals(films.getVersion() + 1, actualOutput.get(0).get().version());
+    }
+
+    @Test
+    void givenTheSameIdTwice_whenCallsUpdateCategories_thenShouldRejectBothOccurrences() {
+        final var films = Category.newCategory("Film", null, true);
+        final var series = Category.newCategory("Serie", null, true);
+
+        final var aCommands = List.of(
+                UpdateCategoryCommand.with(films.getId().getValue(), "Filmes", null, true),
+                UpdateCategoryCommand.with(series.getId().getValue(), "Séries", null, true),
+                UpdateCategoryCommand.with(films.getId().getValue(), "Films", null, false));
+
+        when(categoryGateway.findAllByIdsForUpdate(any())).thenReturn(List.of(Category.with(series)));
+        when(categoryGateway.updateAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = defaultUpdateCategoriesUseCase.execute(aCommands);
+
+        final var expectedError = "'id' %s appears more than once in the request".formatted(films.getId().getValue());
+        assertEquals(expectedError, actualOutput.get(0).getLeft().getErrors().get(0).message());
+        assertEquals(series.getId().getValue(), actualOutput.get(1).get().id());
+        assertEquals(expectedError, actualOutput.get(2).getLeft().getErrors().get(0).message());
+
+        verify(categoryGateway, times(1)).findAllByIdsForUpdate(Set.of(series.getId()));
+        verify(categoryGateway, times(1)).updateAll(categoriesCaptor.capture());
+        assertEquals(1, categoriesCaptor.getValue().size());
+    }
+
+    @Test
+    void givenANullId_whenCallsUpdateCategories_thenShouldReturnAValidationError() {
+        final var aCommands = List.of(UpdateCategoryCommand.with(null, "Filmes", null, true));
+
+        final var actualOutput = defaultUpdateCategoriesUseCase.execute(aCommands);
+
+        assertEquals("'id' should not be null", actualOutput.get(0).getLeft().getErrors().get(0).message());
+        verify(categoryGateway, never()).findAllByIdsForUpdate(any());
+        verify(categoryGateway, never()).updateAll(any());
+    }
+
+    @Test
+    void givenAStaleCategoryInTheChunk_whenCallsUpdateCategories_thenShouldFailOnlyThatItem() {
+        final var films = Category.newCategory("Film", null, true);
+        final var series = Category.newCategory("Serie", null, true);
+
+        final var aCommands = List.of(
+                UpdateCategoryCommand.with(films.getId().getValue(), "Filmes", null, true),
+                UpdateCategoryCommand.with(series.getId().getValue(), "Séries", null, true));
+
+        when(categoryGateway.findAllByIdsForUpdate(any()))
+                .thenReturn(List.of(Category.with(films), Category.with(series)));
+        when(categoryGateway.updateAll(any()))
+                .thenThrow(ConflictException.with(Category.class, List.of(films.getId(), series.getId())));
+        when(categoryGateway.update(any())).thenAnswer(invocation -> {
+            final Category aCategory = invocation.getArgument(0);
+            if (aCategory.getId().equals(series.getId())) {
+                throw ConflictException.with(Category.class, series.getId());
+            }
+            return aCategory;
+        });
+
+        final var actualOutput = defaultUpdateCategoriesUseCase.execute(aCommands);
+
+        assertEquals(films.getId().getValue(), actualOutput.get(0).get().id());
+        assertEquals(
+                "Category with ID %s was changed by another request".formatted(series.getId().getValue()),
+                actualOutput.get(1).getLeft().getErrors().get(0).message());
+        verify(categoryGateway, times(2)).update(any());
+    }
+}
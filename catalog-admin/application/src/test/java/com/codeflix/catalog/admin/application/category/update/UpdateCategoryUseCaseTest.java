@@ -1,6 +1,7 @@
 package com.codeflix.catalog.admin.application.category.update;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -11,6 +12,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +28,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import com.codeflix.catalog.admin.domain.exceptions.PreconditionFailedException;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateCategoryUseCaseTest {
@@ -58,7 +62,7 @@ class UpdateCategoryUseCaseTest {
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        when(categoryGateway.findById(expectedId))
+        when(categoryGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(Category.with(aCategory)));
         when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -67,7 +71,7 @@ class UpdateCategoryUseCaseTest {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findByIdForUpdate(expectedId);
 
         verify(categoryGateway, times(1))
                 .update(categoryCaptor.capture());
@@ -97,7 +101,7 @@ class UpdateCategoryUseCaseTest {
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        when(categoryGateway.findById(expectedId))
+        when(categoryGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(Category.with(aCategory)));
 
         final var notification = defaultUpdateCategoryUseCase.execute(aCommand).getLeft();
@@ -121,7 +125,7 @@ class UpdateCategoryUseCaseTest {
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        when(categoryGateway.findById(expectedId))
+        when(categoryGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(Category.with(aCategory)));
         when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
 
@@ -133,7 +137,7 @@ class UpdateCategoryUseCaseTest {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findByIdForUpdate(expectedId);
 
         verify(categoryGateway, times(1))
                 .update(categoryCaptor.capture());
@@ -163,7 +167,7 @@ class UpdateCategoryUseCaseTest {
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId.getValue(), expectedName, expectedDescription, expectedIsActive);
 
-        when(categoryGateway.findById(expectedId))
+        when(categoryGateway.findByIdForUpdate(expectedId))
                 .thenReturn(Optional.of(Category.with(aCategory)));
         when(categoryGateway.update(any())).thenThrow(new IllegalStateException("Gateway error"));
 
@@ -196,7 +200,7 @@ class UpdateCategoryUseCaseTest {
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId, expectedName, expectedDescription, expectedIsActive);
 
-        when(categoryGateway.findById(CategoryID.from(expectedId)))
+        when(categoryGateway.findByIdForUpdate(CategoryID.from(expectedId)))
                 .thenReturn(Optional.empty());
 
         final var actualException = assertThrows(
@@ -206,8 +210,79 @@ class UpdateCategoryUseCaseTest {
         assertEquals(expectedErrorMessage, actualException.getMessage());
 
         verify(categoryGateway, times(1))
-                .findById(CategoryID.from(expectedId));
+                .findByIdForUpdate(CategoryID.from(expectedId));
 
         verify(categoryGateway, times(0)).update(any());
     }
+
+    @Test
+    void givenAStaleExpectedVersion_whenCallsUpdateCategory_thenShouldFailThePreconditionWithoutUpdating() {
+        final var aCategory = Category.with(
+                CategoryID.from("123"), "Film", null, true, Instant.now(), Instant.now(), null, 3L);
+        final var expectedErrorMessage = "Category with ID 123 is no longer at the expected version";
+
+        final var aCommand = UpdateCategoryCommand.with("123", "Filmes", null, true, 2L);
+
+        when(categoryGateway.findByIdForUpdate(aCategory.getId())).thenReturn(Optional.of(aCategory));
+
+        final var actualException = assertThrows(
+                PreconditionFailedException.class,
+                () -> defaultUpdateCategoryUseCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(categoryGateway, times(0)).update(any());
+    }
+
+    @Test
+    void givenAMatchingExpectedVersion_whenGatewayLosesTheRace_thenShouldFailThePrecondition() {
+        final var aCategory = Category.with(
+                CategoryID.from("123"), "Film", null, true, Instant.now(), Instant.now(), null, 3L);
+
+        final var aCommand = UpdateCategoryCommand.with("123", "Filmes", null, true, 3L);
+
+        when(categoryGateway.findByIdForUpdate(aCategory.getId())).thenReturn(Optional.of(aCategory));
+        when(categoryGateway.update(any())).thenThrow(ConflictException.with(Category.class, aCategory.getId()));
+
+        assertThrows(PreconditionFailedException.class, () -> defaultUpdateCategoryUseCase.execute(aCommand));
+        verify(categoryGateway, times(1)).update(any());
+    }
+
+    @Test
+    void givenNoExpectedVersion_whenGatewayLosesTheRaceOnce_thenShouldRetryOnAFreshRead() {
+        final var aCategory = Category.with(
+                CategoryID.from("123"), "Film", null, true, Instant.now(), Instant.now(), null, 3L);
+        final var anUpdated = Category.with(
+                CategoryID.from("123"), "Filmes", null, true, Instant.now(), Instant.now(), null, 5L);
+
+        final var aCommand = UpdateCategoryCommand.with("123", "Filmes", null, true);
+
+        when(categoryGateway.findByIdForUpdate(aCategory.getId())).thenReturn(Optional.of(aCategory));
+        when(categoryGateway.update(any()))
+                .thenThrow(ConflictException.with(Category.class, aCategory.getId()))
+                .thenReturn(anUpdated);
+
+        final var actualOutput = defaultUpdateCategoryUseCase.execute(aCommand).get();
+
+        assertEquals(5L, actualOutput.version());
+        verify(categoryGateway, times(2)).findByIdForUpdate(aCategory.getId());
+        verify(categoryGateway, times(2)).update(any());
+    }
+
+    @Test
+    void givenNoExpectedVersion_whenGatewayKeepsLosingTheRace_thenShouldGiveUpWithConflict() {
+        final var aCategory = Category.with(
+                CategoryID.from("123"), "Film", null, true, Instant.now(), Instant.now(), null, 3L);
+
+        final var aCommand = UpdateCategoryCommand.with("123", "Filmes", null, true);
+
+        when(categoryGateway.findByIdForUpdate(aCategory.getId())).thenReturn(Optional.of(aCategory));
+        when(categoryGateway.update(any())).thenThrow(ConflictException.with(Category.class, aCategory.getId()));
+
+        final var actualException = assertThrows(
+                ConflictException.class,
+                () -> defaultUpdateCategoryUseCase.execute(aCommand));
+
+        assertFalse(actualException instanceof PreconditionFailedException);
+        verify(categoryGateway, times(DefaultUpdateCategoryUseCase.UNCONDITIONAL_ATTEMPTS)).update(any());
+    }
 }
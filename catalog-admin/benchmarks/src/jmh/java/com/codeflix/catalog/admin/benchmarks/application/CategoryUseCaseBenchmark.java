@@ -0,0 +1,134 @@
+package com.codeflix.catalog.admin.benchmarks.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.codeflix.catalog.admin.application.category.create.CreateCategoryOutput;
+import com.codeflix.catalog.admin.application.category.create.DefaultCreateCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryVersionOutput;
+import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoryVersionUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.codeflix.catalog.admin.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.update.DefaultUpdateCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.update.UpdateCategoryCommand;
+import com.codeflix.catalog.admin.application.category.update.UpdateCategoryOutput;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+import io.vavr.control.Either;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryUseCaseBenchmark {
+
+    private static final int CATEGORIES = 100;
+
+    private DefaultCreateCategoryUseCase createCategoryUseCase;
+    private DefaultGetCategoryByIdUseCase getCategoryByIdUseCase;
+    private DefaultGetCategoryVersionUseCase getCategoryVersionUseCase;
+    private DefaultGetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+    private DefaultUpdateCategoryUseCase updateCategoryUseCase;
+    private DefaultListCategoriesUseCase listCategoriesUseCase;
+    private DefaultDeleteCategoryUseCase deleteCategoryUseCase;
+
+    private CreateCategoryCommand aCreateCommand;
+    private CreateCategoryCommand anInvalidCreateCommand;
+    private UpdateCategoryCommand anUpdateCommand;
+    private CategorySearchQuery aQuery;
+    private String anId;
+    private List<String> someIds;
+
+    @Setup
+    public void setUp() {
+        final var aGateway = new InMemoryCategoryGateway();
+
+        // creates would grow the store by millions of rows per iteration and skew the gc profile, so they are dropped
+        this.createCategoryUseCase = new DefaultCreateCategoryUseCase(new InMemoryCategoryGateway() {
+            @Override
+            public Category create(final Category aCategory) {
+                return aCategory;
+            }
+        }, CategoryIdGenerator.RANDOM);
+        this.getCategoryByIdUseCase = new DefaultGetCategoryByIdUseCase(aGateway);
+        this.getCategoryVersionUseCase = new DefaultGetCategoryVersionUseCase(aGateway);
+        this.getCategoriesByIdsUseCase = new DefaultGetCategoriesByIdsUseCase(aGateway);
+        this.updateCategoryUseCase = new DefaultUpdateCategoryUseCase(aGateway);
+        this.listCategoriesUseCase = new DefaultListCategoriesUseCase(aGateway);
+        this.deleteCategoryUseCase = new DefaultDeleteCategoryUseCase(aGateway);
+
+        final var ids = new ArrayList<String>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            final var aCategory = Category.newCategory("Category %03d".formatted(i), "Description " + i, true);
+            aGateway.create(aCategory);
+            ids.add(aCategory.getId().getValue());
+        }
+
+        this.anId = ids.get(0);
+        this.someIds = ids.subList(0, 10);
+        this.aCreateCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+        this.anInvalidCreateCommand = CreateCategoryCommand.with(" ", "A categoria mais assistida", true);
+        this.anUpdateCommand = UpdateCategoryCommand.with(this.anId, "Filmes", "A categoria mais assistida", true);
+        this.aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> createCategory() {
+        return this.createCategoryUseCase.execute(this.aCreateCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> createInvalidCategory() {
+        return this.createCategoryUseCase.execute(this.anInvalidCreateCommand);
+    }
+
+    @Benchmark
+    public CategoryOutput getCategoryById() {
+        return this.getCategoryByIdUseCase.execute(this.anId);
+    }
+
+    @Benchmark
+    public CategoryVersionOutput getCategoryVersion() {
+        return this.getCategoryVersionUseCase.execute(this.anId);
+    }
+
+    @Benchmark
+    public List<CategoryOutput> getCategoriesByIds() {
+        return this.getCategoriesByIdsUseCase.execute(this.someIds);
+    }
+
+    @Benchmark
+    public Either<Notification, UpdateCategoryOutput> updateCategory() {
+        return this.updateCategoryUseCase.execute(this.anUpdateCommand);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> listCategories() {
+        return this.listCategoriesUseCase.execute(this.aQuery);
+    }
+
+    @Benchmark
+    public String deleteMissingCategory() {
+        final var aMissingId = CategoryID.unique().getValue();
+        this.deleteCategoryUseCase.execute(aMissingId);
+        return aMissingId;
+    }
+}
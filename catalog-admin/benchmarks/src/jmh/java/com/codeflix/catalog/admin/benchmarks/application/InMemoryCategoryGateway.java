@@ -0,0 +1,118 @@
+package com.codeflix.catalog.admin.benchmarks.application;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+// copies on the way in and out, like a real store, so use cases never share an aggregate with the gateway
+public class InMemoryCategoryGateway implements CategoryGateway {
+
+    private final Map<CategoryID, Category> categories = new ConcurrentHashMap<>();
+
+    @Override
+    public Category create(final Category aCategory) {
+        this.categories.put(aCategory.getId(), Category.with(aCategory));
+        return aCategory;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        categories.forEach(this::create);
+        return categories;
+    }
+
+    @Override
+    public int deleteById(final CategoryID anId) {
+        return this.categories.remove(anId) != null ? 1 : 0;
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        return anIds.stream().mapToInt(this::deleteById).sum();
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return Optional.ofNullable(this.categories.get(anId)).map(Category::with);
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        return Optional.ofNullable(this.categories.get(anId)).map(CategoryVersion::from);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return anIds.stream()
+                .map(this.categories::get)
+                .filter(Objects::nonNull)
+                .map(Category::with)
+                .toList();
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return findById(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return findAllByIds(anIds);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var anUpdated = Category.with(
+                aCategory.getId(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                aCategory.getVersion() + 1);
+
+        this.categories.put(anUpdated.getId(), anUpdated);
+        return Category.with(anUpdated);
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return categories.stream().map(this::update).toList();
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        final var terms = aQuery.terms() == null ? "" : aQuery.terms().toLowerCase();
+
+        final var matches = this.categories.values().stream()
+                .filter(it -> terms.isEmpty() || it.getName().toLowerCase().contains(terms))
+                .sorted(Comparator.comparing(Category::getName))
+                .toList();
+
+        final var items = matches.stream()
+                .skip((long) aQuery.page() * aQuery.perPage())
+                .limit(aQuery.perPage())
+                .map(Category::with)
+                .toList();
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), matches.size(), items);
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        this.categories.values().stream().map(Category::with).forEach(aConsumer);
+    }
+}
@@ -0,0 +1,68 @@
+package com.codeflix.catalog.admin.benchmarks.domain;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryBenchmark {
+
+    private static final String NAME = "Filmes";
+    private static final String DESCRIPTION = "A categoria mais assistida";
+
+    private Category aValidCategory;
+    private Category anInvalidCategory;
+
+    @Setup
+    public void setUp() {
+        this.aValidCategory = Category.newCategory(NAME, DESCRIPTION, true);
+        this.anInvalidCategory = Category.newCategory(" ", DESCRIPTION, true);
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory(NAME, DESCRIPTION, true);
+    }
+
+    @Benchmark
+    public Notification validateValidCategory() {
+        final var notification = Notification.create();
+        this.aValidCategory.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification validateInvalidCategory() {
+        final var notification = Notification.create();
+        this.anInvalidCategory.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification newAndValidateCategory() {
+        final var notification = Notification.create();
+        Category.newCategory(NAME, DESCRIPTION, true).validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Category copyCategory() {
+        return Category.with(this.aValidCategory);
+    }
+
+    @Benchmark
+    public Category updateCategory() {
+        return this.aValidCategory.update(NAME, DESCRIPTION, true);
+    }
+}
@@ -0,0 +1,86 @@
+package com.codeflix.catalog.admin.benchmarks.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryIDBenchmark {
+
+    private static final int IDS = 1_000;
+
+    @Param({ "false", "true" })
+    public boolean timeOrdered;
+
+    private CategoryIdGenerator aGenerator;
+    private CategoryID anId;
+    private CategoryID anEqualId;
+    private CategoryID anotherId;
+    private Map<CategoryID, Integer> index;
+    private CategoryID[] lookups;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.aGenerator = CategoryIdGenerator.timeOrdered(this.timeOrdered);
+
+        this.anId = this.aGenerator.next();
+        this.anEqualId = CategoryID.from(new String(this.anId.getValue()));
+        this.anotherId = this.aGenerator.next();
+
+        this.index = new HashMap<>();
+        this.lookups = new CategoryID[IDS];
+        for (int i = 0; i < IDS; i++) {
+            final var aStored = this.aGenerator.next();
+            this.index.put(aStored, i);
+            this.lookups[i] = CategoryID.from(aStored.getValue());
+        }
+    }
+
+    @Benchmark
+    public CategoryID next() {
+        return this.aGenerator.next();
+    }
+
+    @Benchmark
+    public CategoryID fromString() {
+        return CategoryID.from(this.anId.getValue());
+    }
+
+    @Benchmark
+    public boolean equalsSameValue() {
+        return this.anId.equals(this.anEqualId);
+    }
+
+    @Benchmark
+    public boolean equalsOtherValue() {
+        return this.anId.equals(this.anotherId);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return this.anId.hashCode();
+    }
+
+    @Benchmark
+    public Integer hashMapLookup() {
+        final var aKey = this.lookups[this.next];
+        this.next = (this.next + 1) % IDS;
+        return this.index.get(aKey);
+    }
+}
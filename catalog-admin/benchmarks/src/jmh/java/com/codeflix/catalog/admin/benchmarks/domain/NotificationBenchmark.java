@@ -0,0 +1,58 @@
+package com.codeflix.catalog.admin.benchmarks.domain;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationBenchmark {
+
+    private static final Error AN_ERROR = new Error("'name' should not be empty");
+
+    @Param({ "1", "10" })
+    public int errors;
+
+    private Notification aNotification;
+
+    @Setup
+    public void setUp() {
+        this.aNotification = Notification.create();
+        for (int i = 0; i < this.errors; i++) {
+            this.aNotification.append(AN_ERROR);
+        }
+    }
+
+    @Benchmark
+    public Notification appendErrors() {
+        final var notification = Notification.create();
+        for (int i = 0; i < this.errors; i++) {
+            notification.append(AN_ERROR);
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public Notification mergeNotification() {
+        return Notification.create().append(this.aNotification);
+    }
+
+    @Benchmark
+    public Notification validateThrowingDomainException() {
+        return Notification.create().validate(() -> {
+            throw DomainException.with(this.aNotification.getErrors());
+        });
+    }
+}
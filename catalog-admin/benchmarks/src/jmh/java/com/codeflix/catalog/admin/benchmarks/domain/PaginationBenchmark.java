@@ -0,0 +1,42 @@
+package com.codeflix.catalog.admin.benchmarks.domain;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaginationBenchmark {
+
+    @Param({ "10", "100" })
+    public int perPage;
+
+    private Pagination<Category> aPage;
+
+    @Setup
+    public void setUp() {
+        final var items = new ArrayList<Category>(this.perPage);
+        for (int i = 0; i < this.perPage; i++) {
+            items.add(Category.newCategory("Category " + i, "Description " + i, true));
+        }
+
+        this.aPage = new Pagination<>(0, this.perPage, this.perPage, items);
+    }
+
+    @Benchmark
+    public Pagination<String> mapPage() {
+        return this.aPage.map(Category::getName);
+    }
+}
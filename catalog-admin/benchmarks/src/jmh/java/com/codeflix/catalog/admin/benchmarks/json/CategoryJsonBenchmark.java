@@ -0,0 +1,51 @@
+package com.codeflix.catalog.admin.benchmarks.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategoryJsonBenchmark {
+
+    @Param({ "AFTERBURNER", "BLACKBIRD", "REFLECTION" })
+    public MapperConfig mapper;
+
+    private ObjectWriter aWriter;
+    private ObjectReader aReader;
+    private CategoryResponse aCategory;
+    private byte[] aJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        final var anObjectMapper = this.mapper.create();
+
+        this.aWriter = anObjectMapper.writerFor(CategoryResponse.class);
+        this.aReader = anObjectMapper.readerFor(CategoryResponse.class);
+        this.aCategory = CategoryPayloads.category();
+        this.aJson = this.aWriter.writeValueAsBytes(this.aCategory);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return this.aWriter.writeValueAsBytes(this.aCategory);
+    }
+
+    @Benchmark
+    public CategoryResponse deserialize() throws IOException {
+        return this.aReader.readValue(this.aJson);
+    }
+}
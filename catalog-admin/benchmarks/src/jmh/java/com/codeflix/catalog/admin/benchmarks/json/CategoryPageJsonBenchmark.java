@@ -0,0 +1,65 @@
+package com.codeflix.catalog.admin.benchmarks.json;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategoryPageJsonBenchmark {
+
+    private static final TypeReference<Pagination<CategoryListResponse>> PAGE = new TypeReference<>() {
+    };
+
+    private static final TypeReference<List<CategoryListResponse>> ITEMS = new TypeReference<>() {
+    };
+
+    @Param({ "AFTERBURNER", "BLACKBIRD", "REFLECTION" })
+    public MapperConfig mapper;
+
+    @Param({ "10", "100", "1000" })
+    public int perPage;
+
+    private ObjectWriter aWriter;
+    private ObjectReader aReader;
+    private Pagination<CategoryListResponse> aPage;
+    private byte[] someItemsJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        final var anObjectMapper = this.mapper.create();
+
+        this.aWriter = anObjectMapper.writerFor(PAGE);
+        this.aPage = CategoryPayloads.page(this.perPage);
+
+        // the API only ever writes pages and Pagination has no creator Jackson can bind, so reads cover the items
+        this.aReader = anObjectMapper.readerFor(ITEMS);
+        this.someItemsJson = anObjectMapper.writerFor(ITEMS).writeValueAsBytes(this.aPage.items());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return this.aWriter.writeValueAsBytes(this.aPage);
+    }
+
+    @Benchmark
+    public List<CategoryListResponse> deserializeItems() throws IOException {
+        return this.aReader.readValue(this.someItemsJson);
+    }
+}
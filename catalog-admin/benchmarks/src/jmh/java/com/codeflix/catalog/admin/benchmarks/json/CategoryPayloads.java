@@ -0,0 +1,44 @@
+package com.codeflix.catalog.admin.benchmarks.json;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
+
+public final class CategoryPayloads {
+
+    private static final Instant CREATED_AT = Instant.parse("2022-06-01T10:15:30.123456Z");
+    private static final Instant UPDATED_AT = Instant.parse("2022-06-02T08:00:00.654321Z");
+
+    private CategoryPayloads() {
+    }
+
+    public static CategoryResponse category() {
+        return new CategoryResponse(
+                UUID.randomUUID().toString(),
+                "Filmes",
+                "A categoria mais assistida",
+                true,
+                CREATED_AT,
+                UPDATED_AT,
+                null);
+    }
+
+    public static Pagination<CategoryListResponse> page(final int perPage) {
+        final var items = new ArrayList<CategoryListResponse>(perPage);
+        for (int i = 0; i < perPage; i++) {
+            items.add(new CategoryListResponse(
+                    UUID.randomUUID().toString(),
+                    "Category " + i,
+                    "Description of category " + i,
+                    i % 10 != 0,
+                    CREATED_AT.plusSeconds(i),
+                    i % 10 != 0 ? null : UPDATED_AT));
+        }
+
+        return new Pagination<>(0, perPage, perPage * 10L, items);
+    }
+}
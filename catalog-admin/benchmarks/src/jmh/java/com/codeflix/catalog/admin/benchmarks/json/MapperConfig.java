@@ -0,0 +1,30 @@
+package com.codeflix.catalog.admin.benchmarks.json;
+
+import com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+// every variant starts from Json's builder so only the accessor strategy differs
+public enum MapperConfig {
+
+    AFTERBURNER {
+        @Override
+        public ObjectMapper create() {
+            return Json.mapper();
+        }
+    },
+    BLACKBIRD {
+        @Override
+        public ObjectMapper create() {
+            return Json.builder().build().registerModule(new BlackbirdModule());
+        }
+    },
+    REFLECTION {
+        @Override
+        public ObjectMapper create() {
+            return Json.builder().build();
+        }
+    };
+
+    public abstract ObjectMapper create();
+}
@@ -0,0 +1,13 @@
+package com.codeflix.catalog.admin.domain.category;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+public interface AsyncCategoryGateway {
+
+    CompletionStage<Optional<Category>> findById(CategoryID anId);
+
+    CompletionStage<Pagination<Category>> findAll(CategorySearchQuery aQuery);
+}
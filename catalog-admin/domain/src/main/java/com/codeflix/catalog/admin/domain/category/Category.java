@@ -14,6 +14,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     private Category(
             final CategoryID anId,
@@ -22,7 +23,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean isActive,
             final Instant aCreationDate,
             final Instant anUpdateDate,
-            final Instant aDeleteDate) {
+            final Instant aDeleteDate,
+            final long aVersion) {
         super(anId);
         this.name = aName;
         this.description = aDescription;
@@ -30,17 +32,25 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreationDate, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(anUpdateDate, "'updatedAt' should not be null");
         this.deletedAt = aDeleteDate;
+        this.version = aVersion;
     }
 
     public static Category newCategory(
             final String aName,
             final String aDescription,
             final boolean isActive) {
-        final var id = CategoryID.unique();
+        return newCategory(CategoryID.unique(), aName, aDescription, isActive);
+    }
+
+    public static Category newCategory(
+            final CategoryID id,
+            final String aName,
+            final String aDescription,
+            final boolean isActive) {
         final var now = Instant.now();
         final var deletedAt = isActive ? null : now;
 
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        return new Category(id, aName, aDescription, isActive, now, now, deletedAt, 0L);
     }
 
     public static Category with(
@@ -51,7 +61,19 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final Instant createdAt,
             final Instant updatedAt,
             final Instant deletedAt) {
-        return new Category(anId, name, description, active, createdAt, updatedAt, deletedAt);
+        return with(anId, name, description, active, createdAt, updatedAt, deletedAt, 0L);
+    }
+
+    public static Category with(
+            final CategoryID anId,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version) {
+        return new Category(anId, name, description, active, createdAt, updatedAt, deletedAt, version);
     }
 
     public static Category with(Category aCategory) {
@@ -62,7 +84,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt());
+                aCategory.getDeletedAt(),
+                aCategory.getVersion());
     }
 
     @Override
@@ -112,7 +135,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                     this.isActive(),
                     this.getCreatedAt(),
                     this.getUpdatedAt(),
-                    this.getDeletedAt());
+                    this.getDeletedAt(),
+                    this.getVersion());
         }
     }
 
@@ -163,4 +187,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return this.version;
+    }
 }
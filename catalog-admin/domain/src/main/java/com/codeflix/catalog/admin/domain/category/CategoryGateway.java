@@ -1,6 +1,9 @@
 package com.codeflix.catalog.admin.domain.category;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.codeflix.catalog.admin.domain.pagination.Pagination;
 
@@ -8,11 +11,28 @@ public interface CategoryGateway {
 
     Category create(Category aCategory);
 
-    void deleteById(CategoryID anId);
+    List<Category> createAll(List<Category> categories);
+
+    int deleteById(CategoryID anId);
+
+    int deleteAllByIds(Collection<CategoryID> anIds);
 
     Optional<Category> findById(CategoryID anId);
 
+    Optional<CategoryVersion> findVersionById(CategoryID anId);
+
+    List<Category> findAllByIds(Collection<CategoryID> anIds);
+
+    // read-modify-write paths: the latest committed rows from the primary, never from a cache or a replica
+    Optional<Category> findByIdForUpdate(CategoryID anId);
+
+    List<Category> findAllByIdsForUpdate(Collection<CategoryID> anIds);
+
     Category update(Category aCategory);
 
+    List<Category> updateAll(List<Category> categories);
+
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+
+    void streamAll(Consumer<Category> aConsumer);
 }
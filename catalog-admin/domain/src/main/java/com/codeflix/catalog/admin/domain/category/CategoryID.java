@@ -15,7 +15,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryIdGenerator.RANDOM.next();
     }
 
     public static CategoryID from(final String anId) {
@@ -0,0 +1,18 @@
+package com.codeflix.catalog.admin.domain.category;
+
+import com.codeflix.catalog.admin.domain.utils.IdUtils;
+
+@FunctionalInterface
+public interface CategoryIdGenerator {
+
+    CategoryIdGenerator RANDOM = () -> CategoryID.from(IdUtils.uuid());
+
+    // uuid v7, keeps inserts at the right edge of the primary key index
+    CategoryIdGenerator TIME_ORDERED = () -> CategoryID.from(IdUtils.timeOrderedUuid());
+
+    CategoryID next();
+
+    static CategoryIdGenerator timeOrdered(final boolean enabled) {
+        return enabled ? TIME_ORDERED : RANDOM;
+    }
+}
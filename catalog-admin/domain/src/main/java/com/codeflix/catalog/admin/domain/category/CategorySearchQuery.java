@@ -1,9 +1,48 @@
 package com.codeflix.catalog.admin.domain.category;
 
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction) {
+        String direction,
+        String after,
+        TotalMode totalMode,
+        DescriptionMode descriptionMode) {
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after) {
+        this(page, perPage, terms, sort, direction, after, TotalMode.NONE);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after,
+            final TotalMode totalMode) {
+        this(page, perPage, terms, sort, direction, after, totalMode, DescriptionMode.FULL);
+    }
+
+    public boolean hasCursor() {
+        return this.after != null && !this.after.isBlank();
+    }
 }
@@ -0,0 +1,10 @@
+package com.codeflix.catalog.admin.domain.category;
+
+import java.time.Instant;
+
+public record CategoryVersion(CategoryID id, long version, Instant updatedAt) {
+
+    public static CategoryVersion from(final Category aCategory) {
+        return new CategoryVersion(aCategory.getId(), aCategory.getVersion(), aCategory.getUpdatedAt());
+    }
+}
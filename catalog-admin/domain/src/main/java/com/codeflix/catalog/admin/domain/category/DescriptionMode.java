@@ -0,0 +1,36 @@
+package com.codeflix.catalog.admin.domain.category;
+
+import java.util.Arrays;
+
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+
+public enum DescriptionMode {
+    FULL,
+    TRUNCATED,
+    NONE;
+
+    public static final int TRUNCATED_LENGTH = 200;
+
+    public static DescriptionMode from(final String aMode) {
+        if (aMode == null || aMode.isBlank()) {
+            return FULL;
+        }
+
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(aMode.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'description' must be one of full, truncated or none")));
+    }
+
+    public String apply(final String aDescription) {
+        return switch (this) {
+            case FULL -> aDescription;
+            case NONE -> null;
+            case TRUNCATED -> aDescription != null && aDescription.length() > TRUNCATED_LENGTH
+                    ? aDescription.substring(0, TRUNCATED_LENGTH)
+                    : aDescription;
+        };
+    }
+}
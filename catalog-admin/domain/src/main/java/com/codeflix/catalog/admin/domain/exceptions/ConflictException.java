@@ -0,0 +1,34 @@
+package com.codeflix.catalog.admin.domain.exceptions;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.codeflix.catalog.admin.domain.AggregateRoot;
+import com.codeflix.catalog.admin.domain.Identifier;
+import com.codeflix.catalog.admin.domain.validation.Error;
+
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate, final Identifier id) {
+        final var anError = "%s with ID %s was changed by another request"
+                .formatted(anAggregate.getSimpleName(), id.getValue());
+
+        return new ConflictException(anError, Collections.emptyList());
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot<?>> anAggregate, final Collection<? extends Identifier> ids) {
+        final var anError = "One of %s with IDs [%s] was changed by another request"
+                .formatted(anAggregate.getSimpleName(),
+                        ids.stream().map(Identifier::getValue).collect(Collectors.joining(", ")));
+
+        return new ConflictException(anError, Collections.emptyList());
+    }
+}
@@ -0,0 +1,23 @@
+package com.codeflix.catalog.admin.domain.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.codeflix.catalog.admin.domain.AggregateRoot;
+import com.codeflix.catalog.admin.domain.Identifier;
+import com.codeflix.catalog.admin.domain.validation.Error;
+
+public class PreconditionFailedException extends ConflictException {
+
+    protected PreconditionFailedException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static PreconditionFailedException with(
+            final Class<? extends AggregateRoot<?>> anAggregate, final Identifier id) {
+        final var anError = "%s with ID %s is no longer at the expected version"
+                .formatted(anAggregate.getSimpleName(), id.getValue());
+
+        return new PreconditionFailedException(anError, Collections.emptyList());
+    }
+}
@@ -0,0 +1,24 @@
+package com.codeflix.catalog.admin.domain.pagination;
+
+import java.util.Arrays;
+
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+
+public enum TotalMode {
+    NONE,
+    EXACT,
+    ESTIMATED;
+
+    public static TotalMode from(final String aMode) {
+        if (aMode == null || aMode.isBlank()) {
+            return NONE;
+        }
+
+        return Arrays.stream(values())
+                .filter(mode -> mode.name().equalsIgnoreCase(aMode.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(
+                        new Error("'total' must be one of none, exact or estimated")));
+    }
+}
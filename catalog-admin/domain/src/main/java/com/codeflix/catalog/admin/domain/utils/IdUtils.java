@@ -0,0 +1,38 @@
+package com.codeflix.catalog.admin.domain.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class IdUtils {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    private IdUtils() {
+    }
+
+    public static UUID uuid() {
+        return UUID.randomUUID();
+    }
+
+    // UUIDv7 (RFC 9562): 48 bits of unix millis, then a 12 bit sequence so ids created
+    // within the same millisecond keep their creation order, then 62 random bits
+    public static UUID timeOrderedUuid() {
+        final var timestampAndSequence = nextTimestampAndSequence();
+
+        final var mostSigBits = (timestampAndSequence >>> 12) << 16
+                | 0x7000L
+                | (timestampAndSequence & 0xFFFL);
+
+        final var leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextTimestampAndSequence() {
+        final var now = System.currentTimeMillis() << 12;
+
+        return LAST_TIMESTAMP.updateAndGet(last -> Math.max(now, last + 1));
+    }
+}
@@ -0,0 +1,56 @@
+package com.codeflix.catalog.admin.domain.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class CategoryIDTest {
+
+    @Test
+    void givenDefaultGenerator_whenCallsUnique_thenShouldReturnRandomUUID() {
+        final var actualId = UUID.fromString(CategoryID.unique().getValue());
+
+        assertEquals(4, actualId.version());
+    }
+
+    @Test
+    void givenTimeOrderingDisabled_whenCallsNext_thenShouldReturnRandomUUID() {
+        final var actualId = UUID.fromString(CategoryIdGenerator.timeOrdered(false).next().getValue());
+
+        assertEquals(4, actualId.version());
+    }
+
+    @Test
+    void givenTimeOrderedGenerator_whenCallsUnique_thenShouldReturnUUIDv7() {
+        final var aGenerator = CategoryIdGenerator.timeOrdered(true);
+
+        final var before = System.currentTimeMillis();
+        final var actualId = UUID.fromString(aGenerator.next().getValue());
+        final var after = System.currentTimeMillis();
+
+        final var actualTimestamp = actualId.getMostSignificantBits() >>> 16;
+
+        assertEquals(7, actualId.version());
+        assertEquals(2, actualId.variant());
+        assertTrue(actualTimestamp >= before && actualTimestamp <= after);
+    }
+
+    @Test
+    void givenTimeOrderedGenerator_whenCallsUniqueRepeatedly_thenIdsShouldSortInCreationOrder() {
+        final var aGenerator = CategoryIdGenerator.timeOrdered(true);
+
+        final var ids = new ArrayList<String>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(aGenerator.next().getValue());
+        }
+
+        final var sorted = new ArrayList<>(ids);
+        sorted.sort(String::compareTo);
+
+        assertEquals(ids, sorted);
+    }
+}
@@ -5,11 +5,16 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.core.env.AbstractEnvironment;
 
 import com.codeflix.catalog.admin.infrastructure.configuration.WebServerConfig;
+import com.codeflix.catalog.admin.infrastructure.configuration.metrics.UndertowWorkerMetrics;
 
 @SpringBootApplication
 public class Main {
     public static void main(String[] args) {
         System.setProperty(AbstractEnvironment.DEFAULT_PROFILES_PROPERTY_NAME, "development");
+        // the XNIO worker pool only tracks busy threads when asked to, before it is first loaded
+        if (System.getProperty(UndertowWorkerMetrics.STATISTICS_PROPERTY) == null) {
+            System.setProperty(UndertowWorkerMetrics.STATISTICS_PROPERTY, "true");
+        }
         SpringApplication.run(WebServerConfig.class, args);
     }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.codeflix.catalog.admin.infrastructure.api;
 
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,11 +13,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.infrastructure.category.importer.CategoryImportFormat;
+import com.codeflix.catalog.admin.infrastructure.category.models.BatchGetCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkCategoryResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkCreateCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkDeleteCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkUpdateCategoriesRequest;
 import com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
 import com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
@@ -37,37 +50,98 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(value = "bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create many categories, returning one result per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Items processed"),
+            @ApiResponse(responseCode = "422", description = "Too many items"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    List<BulkCategoryResponse> createCategories(@RequestBody BulkCreateCategoriesRequest input);
+
+    @PostMapping(
+            value = "import",
+            consumes = { MediaType.APPLICATION_NDJSON_VALUE, CategoryImportFormat.TEXT_CSV_VALUE },
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import categories from newline delimited JSON or CSV, streaming errors and progress")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed"),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    ResponseEntity<StreamingResponseBody> importCategories(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            WebRequest request);
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Category listed"),
+            @ApiResponse(responseCode = "200", description = "Category listed, the page digest in the ETag header"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match matches the current page. The page is "
+                    + "still queried to compute its digest, so this saves serialization and bandwidth only"),
             @ApiResponse(responseCode = "422", description = "Bad request"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    Pagination<CategoryListResponse> listCategories(
+    ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction);
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "total", required = false, defaultValue = "none") final String total,
+            @RequestParam(name = "description", required = false, defaultValue = "full") final String description);
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream every category as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories streamed, a last line with an 'error' field means the export stopped early"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories(WebRequest request);
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Category retrieved"),
+            @ApiResponse(responseCode = "200", description = "Category retrieved, its version in the ETag header"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match or If-Modified-Since matches the current version"),
             @ApiResponse(responseCode = "404", description = "Not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id, WebRequest request);
+
+    @PostMapping(value = "batch-get", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get categories by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    List<CategoryResponse> getByIds(@RequestBody BatchGetCategoriesRequest input);
 
     @PutMapping(value = "{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Update a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated"),
             @ApiResponse(responseCode = "404", description = "Not found"),
+            @ApiResponse(responseCode = "409", description = "Kept losing to concurrent updates without If-Match"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current version"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCategoryRequest input);
+
+    @PutMapping(value = "bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Update many categories, returning one result per item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Items processed"),
+            @ApiResponse(responseCode = "422", description = "Too many items"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    List<BulkCategoryResponse> updateCategories(@RequestBody BulkUpdateCategoriesRequest input);
 
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping(value = "{id}")
@@ -79,4 +153,14 @@ public interface CategoryAPI {
     })
     void deleteById(@PathVariable(name = "id") String id);
 
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PostMapping(value = "bulk-delete", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete many categories by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories deleted"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    void deleteByIds(@RequestBody BulkDeleteCategoriesRequest input);
+
 }
@@ -0,0 +1,51 @@
+package com.codeflix.catalog.admin.infrastructure.api;
+
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RequestMapping(value = "async/categories")
+@Tag(name = "Categories (async)")
+public interface CategoryAsyncAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List all categories paginated without holding a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category listed"),
+            @ApiResponse(responseCode = "422", description = "Bad request"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent requests"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    CompletionStage<Pagination<CategoryListResponse>> listCategories(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "total", required = false, defaultValue = "none") final String total,
+            @RequestParam(name = "description", required = false, defaultValue = "full") final String description);
+
+    @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a category by it's identifier without holding a request thread")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category retrieved"),
+            @ApiResponse(responseCode = "404", description = "Not found"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent requests"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    CompletionStage<CategoryResponse> getById(@PathVariable(name = "id") String id);
+}
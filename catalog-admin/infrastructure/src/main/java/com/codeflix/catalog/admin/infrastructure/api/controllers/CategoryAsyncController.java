@@ -0,0 +1,48 @@
+package com.codeflix.catalog.admin.infrastructure.api.controllers;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.web.bind.annotation.RestController;
+
+import com.codeflix.catalog.admin.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+import com.codeflix.catalog.admin.infrastructure.api.CategoryAsyncAPI;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
+import com.codeflix.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
+
+@RestController
+public class CategoryAsyncController implements CategoryAsyncAPI {
+
+    private final AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase;
+    private final AsyncListCategoriesUseCase asyncListCategoriesUseCase;
+
+    public CategoryAsyncController(
+            final AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase,
+            final AsyncListCategoriesUseCase asyncListCategoriesUseCase) {
+        this.asyncGetCategoryByIdUseCase = Objects.requireNonNull(asyncGetCategoryByIdUseCase);
+        this.asyncListCategoriesUseCase = Objects.requireNonNull(asyncListCategoriesUseCase);
+    }
+
+    @Override
+    public CompletionStage<Pagination<CategoryListResponse>> listCategories(String search, int page, int perPage,
+            String sort, String direction, String after, String total, String description) {
+        final var aQuery = new CategorySearchQuery(
+                page, perPage, search, sort, direction, after, TotalMode.from(total),
+                DescriptionMode.from(description));
+
+        return this.asyncListCategoriesUseCase.execute(aQuery)
+                .thenApply(aPage -> aPage.map(CategoryApiPresenter::present));
+    }
+
+    @Override
+    public CompletionStage<CategoryResponse> getById(final String id) {
+        return this.asyncGetCategoryByIdUseCase.execute(id)
+                .thenApply(CategoryApiPresenter::present);
+    }
+}
@@ -1,70 +1,222 @@
 package com.codeflix.catalog.admin.infrastructure.api.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.codeflix.catalog.admin.application.category.create.CreateCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
 import com.codeflix.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.codeflix.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.delete.DeleteCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryVersionUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.codeflix.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.update.UpdateCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.update.UpdateCategoryCommand;
 import com.codeflix.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
 import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
 import com.codeflix.catalog.admin.domain.validation.handler.Notification;
 import com.codeflix.catalog.admin.infrastructure.api.CategoryAPI;
+import com.codeflix.catalog.admin.infrastructure.category.importer.CategoryImportFormat;
+import com.codeflix.catalog.admin.infrastructure.category.importer.CategoryImportListener;
+import com.codeflix.catalog.admin.infrastructure.category.importer.CategoryImporter;
+import com.codeflix.catalog.admin.infrastructure.category.models.BatchGetCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkCategoryResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkCreateCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkDeleteCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkUpdateCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkUpdateCategoryRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryExportErrorResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryImportErrorResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryImportProgressResponse;
 import com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
 import com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.codeflix.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import com.codeflix.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import com.codeflix.catalog.admin.infrastructure.configuration.web.AsyncRequestTimeout;
+import com.codeflix.catalog.admin.infrastructure.utils.ETagUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoryVersionUseCase getCategoryVersionUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final UpdateCategoriesUseCase updateCategoriesUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final CategoryImporter categoryImporter;
+    private final Duration exportTimeout;
+    private final Duration importTimeout;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoryVersionUseCase getCategoryVersionUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase) {
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
+            final CreateCategoriesUseCase createCategoriesUseCase,
+            final UpdateCategoriesUseCase updateCategoriesUseCase,
+            final DeleteCategoriesUseCase deleteCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final CategoryImporter categoryImporter,
+            @Value("${category.export.request-timeout:10m}") final Duration exportTimeout,
+            @Value("${category.import.request-timeout:10m}") final Duration importTimeout) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryVersionUseCase = Objects.requireNonNull(getCategoryVersionUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.updateCategoriesUseCase = Objects.requireNonNull(updateCategoriesUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.categoryImporter = Objects.requireNonNull(categoryImporter);
+        this.exportTimeout = Objects.requireNonNull(exportTimeout);
+        this.importTimeout = Objects.requireNonNull(importTimeout);
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(String search, int page, int perPage, String sort,
-            String direction) {
-        return this.listCategoriesUseCase.execute(new CategorySearchQuery(page, perPage, search, sort, direction))
-                .map(CategoryApiPresenter::present);
+    public ResponseEntity<Pagination<CategoryListResponse>> listCategories(String search, int page, int perPage,
+            String sort, String direction, String after, String total, String description) {
+        final var aQuery = new CategorySearchQuery(
+                page, perPage, search, sort, direction, after, TotalMode.from(total),
+                DescriptionMode.from(description));
+
+        final var aPage = this.listCategoriesUseCase.execute(aQuery);
+
+        // no Last-Modified for pages, a deleted row changes the page without advancing any updatedAt.
+        // The ETag is the digest of the page just read, so a 304 skips serialization but not the query: a cheaper
+        // validator would have to scan the whole table (count, max updatedAt) and cost more than a keyset page
+        return ResponseEntity.ok()
+                .eTag(eTag(aPage))
+                .body(aPage.map(CategoryApiPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories(final WebRequest request) {
+        AsyncRequestTimeout.extend(request, this.exportTimeout);
+
+        final StreamingResponseBody body = out -> {
+            try (final var generator = Json.generator(out)) {
+                final var exported = new long[1];
+
+                try {
+                    this.exportCategoriesUseCase.execute(output -> {
+                        writeLine(generator, CategoryApiPresenter.present(output));
+                        exported[0]++;
+                    });
+                } catch (final UncheckedIOException ex) {
+                    throw ex;
+                } catch (final RuntimeException ex) {
+                    // the 200 is already on the wire, a trailing error line is what tells a client it was cut short
+                    writeLine(generator, new CategoryExportErrorResponse("export failed", exported[0]));
+                    flush(generator);
+                    throw ex;
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCategories(
+            final String contentType,
+            final InputStream body,
+            final WebRequest request) {
+        AsyncRequestTimeout.extend(request, this.importTimeout);
+
+        final var aFormat = CategoryImportFormat.from(MediaType.parseMediaType(contentType));
+
+        final StreamingResponseBody response = out -> {
+            try (final var generator = Json.generator(out)) {
+                this.categoryImporter.importFrom(body, aFormat, new CategoryImportListener() {
+                    @Override
+                    public void onError(final CategoryImportErrorResponse anError) {
+                        writeLine(generator, anError);
+                    }
+
+                    @Override
+                    public void onProgress(final CategoryImportProgressResponse aProgress) {
+                        writeLine(generator, aProgress);
+                        flush(generator);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(response);
+    }
+
+    @Override
+    public ResponseEntity<CategoryResponse> getById(final String id, final WebRequest request) {
+        if (isConditional(request)) {
+            final var aVersion = this.getCategoryVersionUseCase.execute(id);
+
+            if (request.checkNotModified(ETagUtils.of(aVersion.version()), aVersion.updatedAt().toEpochMilli())) {
+                return null;
+            }
+        }
+
+        final var output = this.getCategoryByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.version()))
+                .lastModified(output.updatedAt())
+                .body(CategoryApiPresenter.present(output));
     }
 
     @Override
-    public CategoryResponse getById(String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public List<CategoryResponse> getByIds(final BatchGetCategoriesRequest input) {
+        return this.getCategoriesByIdsUseCase.execute(input.ids()).stream()
+                .map(CategoryApiPresenter::present)
+                .toList();
     }
 
     @Override
     public ResponseEntity<?> createCategory(final CreateCategoryRequest input) {
-        final var aCommand = CreateCategoryCommand.with(
-                input.name(),
-                input.description(),
-                input.isActive() != null ? input.isActive() : true);
+        final var aCommand = toCommand(input);
 
         final Function<Notification, ResponseEntity<?>> onError = notification -> ResponseEntity
                 .unprocessableEntity().body(notification);
@@ -76,16 +228,46 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public List<BulkCategoryResponse> createCategories(final BulkCreateCategoriesRequest input) {
+        final var aCommands = Optional.ofNullable(input.items()).orElse(List.of()).stream()
+                .map(CategoryController::toCommand)
+                .toList();
+
+        return this.createCategoriesUseCase.execute(aCommands).stream()
+                .map(result -> result.fold(
+                        notification -> CategoryApiPresenter.present(null, notification),
+                        output -> CategoryApiPresenter.present(output.id())))
+                .toList();
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
         final var aCommand = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.isActive() != null ? input.isActive() : true);
+                input.isActive() != null ? input.isActive() : true,
+                ETagUtils.expectedVersion(ifMatch));
 
         return this.updateCategoryUseCase.execute(aCommand).fold(
                 ResponseEntity.unprocessableEntity()::body,
-                ResponseEntity::ok);
+                output -> ResponseEntity.ok().eTag(ETagUtils.of(output.version())).body(output));
+    }
+
+    @Override
+    public List<BulkCategoryResponse> updateCategories(final BulkUpdateCategoriesRequest input) {
+        final var items = Optional.ofNullable(input.items()).orElse(List.of());
+        final var aCommands = items.stream()
+                .map(CategoryController::toCommand)
+                .toList();
+
+        final var results = this.updateCategoriesUseCase.execute(aCommands);
+
+        return IntStream.range(0, results.size())
+                .mapToObj(i -> results.get(i).fold(
+                        notification -> CategoryApiPresenter.present(items.get(i).id(), notification),
+                        output -> CategoryApiPresenter.present(output.id())))
+                .toList();
     }
 
     @Override
@@ -93,4 +275,55 @@ public class CategoryController implements CategoryAPI {
         this.deleteCategoryUseCase.execute(anId);
     }
 
+    @Override
+    public void deleteByIds(final BulkDeleteCategoriesRequest input) {
+        this.deleteCategoriesUseCase.execute(input.ids());
+    }
+
+    private static boolean isConditional(final WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    private static String eTag(final Pagination<CategoryListOutput> aPage) {
+        final var parts = new ArrayList<String>(aPage.items().size() + 2);
+        parts.add(String.valueOf(aPage.total()));
+        parts.add(String.valueOf(aPage.nextCursor()));
+        aPage.items().forEach(it -> parts.add(it.id().getValue() + ":" + it.version()));
+
+        return ETagUtils.of(parts);
+    }
+
+    private static void writeLine(final JsonGenerator generator, final Object aValue) {
+        try {
+            generator.writeObject(aValue);
+            generator.writeRaw('\n');
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void flush(final JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static CreateCategoryCommand toCommand(final CreateCategoryRequest input) {
+        return CreateCategoryCommand.with(
+                input.name(),
+                input.description(),
+                input.isActive() != null ? input.isActive() : true);
+    }
+
+    private static UpdateCategoryCommand toCommand(final BulkUpdateCategoryRequest input) {
+        return UpdateCategoryCommand.with(
+                input.id(),
+                input.name(),
+                input.description(),
+                input.isActive() != null ? input.isActive() : true);
+    }
+
 }
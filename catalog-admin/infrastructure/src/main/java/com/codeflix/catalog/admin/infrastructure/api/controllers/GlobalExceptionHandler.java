@@ -1,14 +1,17 @@
 package com.codeflix.catalog.admin.infrastructure.api.controllers;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import com.codeflix.catalog.admin.domain.exceptions.DomainException;
 import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import com.codeflix.catalog.admin.domain.exceptions.PreconditionFailedException;
 import com.codeflix.catalog.admin.domain.validation.Error;
 
 @RestControllerAdvice
@@ -24,6 +27,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = PreconditionFailedException.class)
+    public ResponseEntity<?> handlePreconditionFailedException(final PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejectedExecutionException(final RejectedExecutionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ApiError("Too many concurrent requests, try again later", List.of()));
+    }
+
     record ApiError(String message, List<Error> errors) {
 
         public static ApiError from(final DomainException ex) {
@@ -2,49 +2,138 @@ package com.codeflix.catalog.admin.infrastructure.category;
 
 import static com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils.like;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
 
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import com.codeflix.catalog.admin.domain.category.CategoryID;
 import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
 import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryCountEstimator;
+import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryIdType;
 import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.catalog.admin.infrastructure.utils.CursorUtils;
+import com.codeflix.catalog.admin.infrastructure.utils.PaginationUtils;
 import com.codeflix.catalog.admin.infrastructure.utils.SpecificationUtils;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String RELEVANCE = "relevance";
+
     private final CategoryRepository categoryRepository;
+    private final CategoryCountEstimator categoryCountEstimator;
+    private final boolean fullTextSearch;
+    private final boolean binaryIds;
+    private final int exportFetchSize;
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository categoryRepository,
+            final CategoryCountEstimator categoryCountEstimator,
+            @Value("${category.listing.full-text-search:false}") final boolean fullTextSearch,
+            @Value("${spring.jpa.properties[category.id.binary]:false}") final boolean binaryIds,
+            @Value("${category.export.fetch-size:1000}") final int exportFetchSize) {
         this.categoryRepository = categoryRepository;
+        this.categoryCountEstimator = categoryCountEstimator;
+        this.fullTextSearch = fullTextSearch;
+        this.binaryIds = binaryIds;
+        this.exportFetchSize = exportFetchSize;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        return this.categoryRepository.save(CategoryJpaEntity.newEntity(aCategory)).toAggregate();
     }
 
     @Override
-    public void deleteById(CategoryID anId) {
-        final var anIdValue = anId.getValue();
-        if (this.categoryRepository.existsById(anIdValue)) {
-            this.categoryRepository.deleteById(anIdValue);
+    public List<Category> createAll(final List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
         }
+
+        return this.categoryRepository.insertAll(toEntities(categories)).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
     }
 
     @Override
+    public int deleteById(CategoryID anId) {
+        if (!isStorable(anId)) {
+            return 0;
+        }
+
+        return this.categoryRepository.deleteOneById(anId.getValue());
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        final var ids = storable(anIds);
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        return this.categoryRepository.deleteAllByIdIn(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Category> findById(CategoryID anId) {
-        return this.categoryRepository.findById(anId.getValue())
-                .map(CategoryJpaEntity::toAggregate);
+        return find(anId);
+    }
+
+    // a read-write transaction is what keeps the routing data source on the primary
+    @Override
+    @Transactional
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return find(anId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        if (!isStorable(anId)) {
+            return Optional.empty();
+        }
+
+        return this.categoryRepository.findVersionById(anId.getValue())
+                .map(it -> new CategoryVersion(anId, it.getVersion(), it.getUpdatedAt()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return findAll(anIds);
+    }
+
+    @Override
+    @Transactional
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return findAll(anIds);
     }
 
     @Override
@@ -53,28 +142,175 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        // the batch commits as a whole, so a stale item rolls back the rest and its id can not be told apart here
+        try {
+            return this.categoryRepository.updateAll(toEntities(categories)).stream()
+                    .map(CategoryJpaEntity::toAggregate)
+                    .toList();
+        } catch (final OptimisticLockingFailureException ex) {
+            throw ConflictException.with(Category.class, categories.stream().map(Category::getId).toList());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(CategorySearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort()));
+        final var terms = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank());
+        // terms made only of operators, short words or stopwords have nothing to match, so they fall back to LIKE
+        final var aBooleanQuery = terms.filter(str -> this.fullTextSearch).flatMap(SpecificationUtils::booleanQuery);
+        final var fullText = aBooleanQuery.isPresent();
+        final var byRelevance = RELEVANCE.equalsIgnoreCase(aQuery.sort());
 
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> SpecificationUtils.<CategoryJpaEntity>like("name", str)
-                        .or(like("description", str)))
+        final var direction = Direction.fromString(aQuery.direction());
+        final var sort = byRelevance
+                ? fullText ? Sort.unsorted() : Sort.by(direction, NAME, ID)
+                : Sort.by(direction, aQuery.sort(), ID);
+
+        final var specifications = terms
+                .map(str -> fullText
+                        ? SpecificationUtils.<CategoryJpaEntity>match(NAME, DESCRIPTION, aBooleanQuery.get(), byRelevance)
+                        : SpecificationUtils.<CategoryJpaEntity>like(NAME, str).or(like(DESCRIPTION, str)))
                 .orElse(null);
 
-        final var pageResult = this.categoryRepository.findAll(Specification.where(specifications), page);
+        if (aQuery.hasCursor()) {
+            if (byRelevance) {
+                throw DomainException.with(new Error("'after' cursor can not be used when sorting by relevance"));
+            }
+
+            return findAllAfter(aQuery, direction, sort, specifications, aBooleanQuery.orElse(null));
+        }
+
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
+
+        final var sliceResult = this.categoryRepository.findAllSliced(
+                Specification.where(specifications), page, descriptionMode(aQuery));
 
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList());
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                total(aQuery, specifications, aBooleanQuery.orElse(null), lastPageTotal(sliceResult)),
+                sliceResult.map(CategoryJpaEntity::toAggregate).toList(),
+                byRelevance ? null : nextCursor(aQuery.sort(), sliceResult));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(final Consumer<Category> aConsumer) {
+        try (final var entities = this.categoryRepository.streamAll(this.exportFetchSize)) {
+            entities.map(CategoryJpaEntity::toAggregate).forEach(aConsumer);
+        }
+    }
+
+    private Pagination<Category> findAllAfter(
+            final CategorySearchQuery aQuery,
+            final Direction direction,
+            final Sort sort,
+            final Specification<CategoryJpaEntity> specifications,
+            final String aBooleanQuery) {
+        final var cursor = CursorUtils.decodeSort(aQuery.after(), aQuery.sort());
+
+        final var afterCursor = SpecificationUtils.<CategoryJpaEntity>after(
+                aQuery.sort(), cursor.value(), ID, cursor.id(), direction.isAscending());
+
+        final var sliceResult = this.categoryRepository.findAllSliced(
+                Specification.where(specifications).and(afterCursor),
+                PageRequest.of(0, aQuery.perPage(), sort),
+                descriptionMode(aQuery));
+
+        return new Pagination<>(
+                aQuery.page(),
+                sliceResult.getSize(),
+                total(aQuery, specifications, aBooleanQuery, OptionalLong.empty()),
+                sliceResult.map(CategoryJpaEntity::toAggregate).toList(),
+                nextCursor(aQuery.sort(), sliceResult));
+    }
+
+    private static DescriptionMode descriptionMode(final CategorySearchQuery aQuery) {
+        return aQuery.descriptionMode() != null ? aQuery.descriptionMode() : DescriptionMode.FULL;
+    }
+
+    private long total(
+            final CategorySearchQuery aQuery,
+            final Specification<CategoryJpaEntity> specifications,
+            final String aBooleanQuery,
+            final OptionalLong aKnownTotal) {
+        return PaginationUtils.total(
+                aQuery.totalMode(),
+                aKnownTotal,
+                () -> this.categoryCountEstimator
+                        .estimate(aQuery.terms(), aBooleanQuery, Specification.where(specifications)),
+                () -> this.categoryRepository.count(Specification.where(specifications)));
+    }
+
+    private static OptionalLong lastPageTotal(final Slice<CategoryJpaEntity> aSlice) {
+        return PaginationUtils.lastPageTotal(
+                false,
+                aSlice.getNumber(),
+                aSlice.getPageable().getOffset(),
+                aSlice.getNumberOfElements(),
+                aSlice.hasNext());
+    }
+
+    private String nextCursor(final String aSort, final Slice<CategoryJpaEntity> aSlice) {
+        if (!aSlice.hasNext() || !aSlice.hasContent()) {
+            return null;
+        }
+
+        final var last = aSlice.getContent().get(aSlice.getNumberOfElements() - 1);
+        final var value = PropertyAccessorFactory.forBeanPropertyAccess(last).getPropertyValue(aSort);
+
+        return CursorUtils.encodeSort(aSort, value, last.getId());
+    }
+
+    private Optional<Category> find(final CategoryID anId) {
+        if (!isStorable(anId)) {
+            return Optional.empty();
+        }
+
+        return this.categoryRepository.findById(anId.getValue())
+                .map(CategoryJpaEntity::toAggregate);
+    }
+
+    private List<Category> findAll(final Collection<CategoryID> anIds) {
+        final var ids = storable(anIds);
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return this.categoryRepository.findAllById(ids).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    // a binary id column can only hold uuids, so any other id can not name a stored row
+    private boolean isStorable(final CategoryID anId) {
+        return !this.binaryIds || CategoryIdType.isUuid(anId.getValue());
+    }
+
+    private List<String> storable(final Collection<CategoryID> anIds) {
+        if (anIds == null) {
+            return List.of();
+        }
+
+        return anIds.stream().filter(this::isStorable).map(CategoryID::getValue).toList();
     }
 
     private Category save(final Category aCategory) {
-        return this.categoryRepository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        // flushing inside the save returns the incremented version, and surfaces a stale one here
+        try {
+            return this.categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory)).toAggregate();
+        } catch (final OptimisticLockingFailureException ex) {
+            throw ConflictException.with(Category.class, aCategory.getId());
+        }
+    }
+
+    private List<CategoryJpaEntity> toEntities(final List<Category> categories) {
+        return categories.stream().map(CategoryJpaEntity::from).toList();
     }
 }
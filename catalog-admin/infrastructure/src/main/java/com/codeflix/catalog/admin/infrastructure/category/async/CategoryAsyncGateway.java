@@ -0,0 +1,84 @@
+package com.codeflix.catalog.admin.infrastructure.category.async;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.codeflix.catalog.admin.domain.category.AsyncCategoryGateway;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+// JDBC has no non-blocking driver here, so blocking calls run on a pool sized to the connection pool and request
+// threads are released while they wait.
+public class CategoryAsyncGateway implements AsyncCategoryGateway {
+
+    public static final String EXECUTOR_NAME = "categories.async";
+
+    private final CategoryGateway categoryGateway;
+    private final ExecutorService executor;
+
+    public CategoryAsyncGateway(final CategoryGateway categoryGateway, final ExecutorService executor) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public static CategoryAsyncGateway create(
+            final CategoryGateway categoryGateway,
+            final int threads,
+            final int queueCapacity,
+            final MeterRegistry meterRegistry) {
+        final var threadCount = new AtomicInteger();
+        final var anExecutor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                aTask -> {
+                    final var aThread = new Thread(aTask, "category-async-" + threadCount.incrementAndGet());
+                    aThread.setDaemon(true);
+                    return aThread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        return new CategoryAsyncGateway(
+                categoryGateway,
+                ExecutorServiceMetrics.monitor(meterRegistry, anExecutor, EXECUTOR_NAME));
+    }
+
+    @Override
+    public CompletionStage<Optional<Category>> findById(final CategoryID anId) {
+        return supply(() -> this.categoryGateway.findById(anId));
+    }
+
+    @Override
+    public CompletionStage<Pagination<Category>> findAll(final CategorySearchQuery aQuery) {
+        return supply(() -> this.categoryGateway.findAll(aQuery));
+    }
+
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    private <T> CompletionStage<T> supply(final Supplier<T> aCall) {
+        try {
+            return CompletableFuture.supplyAsync(aCall, this.executor);
+        } catch (final RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.codeflix.catalog.admin.infrastructure.category.bulkhead;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Callers queue here instead of on the connection pool, whose acquisition timeout is kept short on purpose.
+public class CategoryBulkheadGateway implements CategoryGateway {
+
+    public static final String METRIC_PREFIX = "categories.bulkhead";
+
+    private final CategoryGateway categoryGateway;
+    private final Semaphore permits;
+    private final Semaphore exportPermits;
+
+    public CategoryBulkheadGateway(
+            final CategoryGateway categoryGateway,
+            final int maxConcurrentCalls,
+            final int maxConcurrentExports) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("'maxConcurrentCalls' must be greater than 0");
+        }
+        if (maxConcurrentExports < 1) {
+            throw new IllegalArgumentException("'maxConcurrentExports' must be greater than 0");
+        }
+
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.exportPermits = new Semaphore(maxConcurrentExports, true);
+    }
+
+    public static CategoryBulkheadGateway create(
+            final CategoryGateway categoryGateway,
+            final int maxConcurrentCalls,
+            final int maxConcurrentExports,
+            final MeterRegistry meterRegistry) {
+        final var aGateway = new CategoryBulkheadGateway(categoryGateway, maxConcurrentCalls, maxConcurrentExports);
+
+        gauges(meterRegistry, "queries", aGateway.permits);
+        gauges(meterRegistry, "exports", aGateway.exportPermits);
+
+        return aGateway;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return bounded(() -> this.categoryGateway.create(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return bounded(() -> this.categoryGateway.createAll(categories));
+    }
+
+    @Override
+    public int deleteById(final CategoryID anId) {
+        return bounded(() -> this.categoryGateway.deleteById(anId));
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        return bounded(() -> this.categoryGateway.deleteAllByIds(anIds));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return bounded(() -> this.categoryGateway.findById(anId));
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        return bounded(() -> this.categoryGateway.findVersionById(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return bounded(() -> this.categoryGateway.findAllByIds(anIds));
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return bounded(() -> this.categoryGateway.findByIdForUpdate(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return bounded(() -> this.categoryGateway.findAllByIdsForUpdate(anIds));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return bounded(() -> this.categoryGateway.update(aCategory));
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return bounded(() -> this.categoryGateway.updateAll(categories));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return bounded(() -> this.categoryGateway.findAll(aQuery));
+    }
+
+    // an export holds its connection for as long as the client takes to read it, so it must not hold a query permit
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        bounded(this.exportPermits, () -> {
+            this.categoryGateway.streamAll(aConsumer);
+            return null;
+        });
+    }
+
+    public int availablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    public int availableExportPermits() {
+        return this.exportPermits.availablePermits();
+    }
+
+    private <T> T bounded(final Supplier<T> aCall) {
+        return bounded(this.permits, aCall);
+    }
+
+    private static <T> T bounded(final Semaphore somePermits, final Supplier<T> aCall) {
+        try {
+            somePermits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for a database permit", ex);
+        }
+
+        try {
+            return aCall.get();
+        } finally {
+            somePermits.release();
+        }
+    }
+
+    private static void gauges(final MeterRegistry meterRegistry, final String aPool, final Semaphore somePermits) {
+        Gauge.builder(METRIC_PREFIX + ".available", somePermits, Semaphore::availablePermits)
+                .tag("pool", aPool)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".waiting", somePermits, Semaphore::getQueueLength)
+                .tag("pool", aPool)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,170 @@
+package com.codeflix.catalog.admin.infrastructure.category.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.infrastructure.configuration.properties.CategoryCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class CategoryCacheGateway implements CategoryGateway {
+
+    public static final String CACHE_NAME = "categories";
+
+    private final CategoryGateway categoryGateway;
+    private final Cache<CategoryID, Category> cache;
+
+    public CategoryCacheGateway(final CategoryGateway categoryGateway, final Cache<CategoryID, Category> cache) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    public static CategoryCacheGateway create(
+            final CategoryGateway categoryGateway,
+            final CategoryCacheProperties properties,
+            final MeterRegistry meterRegistry) {
+        final Cache<CategoryID, Category> aCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, aCache, CACHE_NAME);
+
+        return new CategoryCacheGateway(categoryGateway, aCache);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var aCreated = this.categoryGateway.create(aCategory);
+        store(aCreated);
+        return aCreated;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.categoryGateway.createAll(categories);
+        created.forEach(this::store);
+        return created;
+    }
+
+    @Override
+    public int deleteById(final CategoryID anId) {
+        try {
+            return this.categoryGateway.deleteById(anId);
+        } finally {
+            this.cache.invalidate(anId);
+        }
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        try {
+            return this.categoryGateway.deleteAllByIds(anIds);
+        } finally {
+            this.cache.invalidateAll(anIds);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        // the load runs inside the cache's compute, so an invalidate from a concurrent write waits for it and then
+        // removes what it loaded, instead of being overwritten by a row read before the write committed
+        final var aCached = this.cache.get(anId, key -> this.categoryGateway.findById(key)
+                .map(Category::with)
+                .orElse(null));
+
+        return Optional.ofNullable(aCached).map(Category::with);
+    }
+
+    // preconditions compare against this version, so it always comes from the database
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        return this.categoryGateway.findVersionById(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        final var categories = new ArrayList<Category>(anIds.size());
+        final var misses = new ArrayList<CategoryID>();
+
+        for (final var anId : anIds) {
+            final var aCached = this.cache.getIfPresent(anId);
+            if (aCached != null) {
+                categories.add(Category.with(aCached));
+            } else {
+                misses.add(anId);
+            }
+        }
+
+        // misses are not cached: a bulk load can not be serialized against invalidations key by key
+        if (!misses.isEmpty()) {
+            categories.addAll(this.categoryGateway.findAllByIds(misses));
+        }
+
+        return categories;
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return this.categoryGateway.findByIdForUpdate(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return this.categoryGateway.findAllByIdsForUpdate(anIds);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            final var anUpdated = this.categoryGateway.update(aCategory);
+            store(anUpdated);
+            return anUpdated;
+        } catch (final RuntimeException ex) {
+            this.cache.invalidate(aCategory.getId());
+            throw ex;
+        }
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        try {
+            final var updated = this.categoryGateway.updateAll(categories);
+            updated.forEach(this::store);
+            return updated;
+        } catch (final RuntimeException ex) {
+            this.cache.invalidateAll(categories.stream().map(Category::getId).toList());
+            throw ex;
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAll(aQuery);
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        this.categoryGateway.streamAll(aConsumer);
+    }
+
+    // concurrent writers may finish out of order, the entry only ever moves to a newer version
+    private void store(final Category aCategory) {
+        this.cache.asMap().merge(aCategory.getId(), Category.with(aCategory),
+                (current, candidate) -> candidate.getVersion() >= current.getVersion() ? candidate : current);
+    }
+}
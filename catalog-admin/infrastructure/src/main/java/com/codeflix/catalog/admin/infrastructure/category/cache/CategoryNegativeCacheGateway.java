@@ -0,0 +1,181 @@
+package com.codeflix.catalog.admin.infrastructure.category.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.infrastructure.configuration.properties.CategoryCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+public class CategoryNegativeCacheGateway implements CategoryGateway {
+
+    public static final String CACHE_NAME = "categories.missing";
+
+    private final CategoryGateway categoryGateway;
+    private final Cache<CategoryID, Boolean> missingIds;
+
+    public CategoryNegativeCacheGateway(
+            final CategoryGateway categoryGateway,
+            final Cache<CategoryID, Boolean> missingIds) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.missingIds = Objects.requireNonNull(missingIds);
+    }
+
+    public static CategoryNegativeCacheGateway create(
+            final CategoryGateway categoryGateway,
+            final CategoryCacheProperties.Negative properties,
+            final MeterRegistry meterRegistry) {
+        final Cache<CategoryID, Boolean> aCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, aCache, CACHE_NAME);
+
+        return new CategoryNegativeCacheGateway(categoryGateway, aCache);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        try {
+            return this.categoryGateway.create(aCategory);
+        } finally {
+            this.missingIds.invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return this.categoryGateway.createAll(categories);
+        } finally {
+            this.missingIds.invalidateAll(ids(categories));
+        }
+    }
+
+    @Override
+    public int deleteById(final CategoryID anId) {
+        final var deleted = this.categoryGateway.deleteById(anId);
+        this.missingIds.put(anId, Boolean.TRUE);
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        final var deleted = this.categoryGateway.deleteAllByIds(anIds);
+        anIds.forEach(anId -> this.missingIds.put(anId, Boolean.TRUE));
+        return deleted;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        if (this.missingIds.getIfPresent(anId) != null) {
+            return Optional.empty();
+        }
+
+        final var aCategory = this.categoryGateway.findById(anId);
+        return aCategory.isPresent() ? aCategory : confirmMissing(anId);
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        if (this.missingIds.getIfPresent(anId) != null) {
+            return Optional.empty();
+        }
+
+        final var aVersion = this.categoryGateway.findVersionById(anId);
+        return aVersion.isPresent() ? aVersion : confirmMissing(anId).map(CategoryVersion::from);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        final var candidates = anIds.stream()
+                .filter(anId -> this.missingIds.getIfPresent(anId) == null)
+                .toList();
+
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        final var categories = new ArrayList<>(this.categoryGateway.findAllByIds(candidates));
+
+        final var missing = new HashSet<>(candidates);
+        categories.forEach(aCategory -> missing.remove(aCategory.getId()));
+
+        if (!missing.isEmpty()) {
+            final var found = this.categoryGateway.findAllByIdsForUpdate(missing);
+            found.forEach(aCategory -> missing.remove(aCategory.getId()));
+            missing.forEach(anId -> this.missingIds.put(anId, Boolean.TRUE));
+            categories.addAll(found);
+        }
+
+        return categories;
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return this.categoryGateway.findByIdForUpdate(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return this.categoryGateway.findAllByIdsForUpdate(anIds);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return this.categoryGateway.update(aCategory);
+        } finally {
+            this.missingIds.invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        try {
+            return this.categoryGateway.updateAll(categories);
+        } finally {
+            this.missingIds.invalidateAll(ids(categories));
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAll(aQuery);
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        this.categoryGateway.streamAll(aConsumer);
+    }
+
+    // a replica that has not caught up with a create yet must not pin its miss for the whole ttl
+    private Optional<Category> confirmMissing(final CategoryID anId) {
+        final var aCategory = this.categoryGateway.findByIdForUpdate(anId);
+        if (aCategory.isEmpty()) {
+            this.missingIds.put(anId, Boolean.TRUE);
+        }
+
+        return aCategory;
+    }
+
+    private static List<CategoryID> ids(final List<Category> categories) {
+        return categories.stream().map(Category::getId).toList();
+    }
+}
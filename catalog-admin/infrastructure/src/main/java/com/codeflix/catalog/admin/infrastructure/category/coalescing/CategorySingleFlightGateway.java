@@ -0,0 +1,92 @@
+package com.codeflix.catalog.admin.infrastructure.category.coalescing;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+public class CategorySingleFlightGateway implements CategoryGateway {
+
+    private final CategoryGateway categoryGateway;
+    private final SingleFlight<CategoryID, Optional<Category>> findByIdCalls;
+    private final SingleFlight<CategorySearchQuery, Pagination<Category>> findAllCalls;
+
+    public CategorySingleFlightGateway(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.findByIdCalls = new SingleFlight<>(aResult -> aResult.map(Category::with));
+        this.findAllCalls = new SingleFlight<>(aResult -> aResult.map(Category::with));
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.categoryGateway.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.categoryGateway.createAll(categories);
+    }
+
+    @Override
+    public int deleteById(final CategoryID anId) {
+        return this.categoryGateway.deleteById(anId);
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        return this.categoryGateway.deleteAllByIds(anIds);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.findByIdCalls.execute(anId, () -> this.categoryGateway.findById(anId));
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        return this.categoryGateway.findVersionById(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return this.categoryGateway.findAllByIds(anIds);
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return this.categoryGateway.findByIdForUpdate(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return this.categoryGateway.findAllByIdsForUpdate(anIds);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.categoryGateway.update(aCategory);
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return this.categoryGateway.updateAll(categories);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.findAllCalls.execute(aQuery, () -> this.categoryGateway.findAll(aQuery));
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        this.categoryGateway.streamAll(aConsumer);
+    }
+}
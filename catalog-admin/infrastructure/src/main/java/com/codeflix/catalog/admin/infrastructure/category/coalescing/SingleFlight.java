@@ -0,0 +1,57 @@
+package com.codeflix.catalog.admin.infrastructure.category.coalescing;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copier;
+
+    public SingleFlight(final UnaryOperator<V> copier) {
+        this.copier = Objects.requireNonNull(copier);
+    }
+
+    public V execute(final K aKey, final Supplier<V> aCall) {
+        final var aFlight = new CompletableFuture<V>();
+        final var anOngoing = this.inFlight.putIfAbsent(aKey, aFlight);
+
+        if (anOngoing != null) {
+            return this.copier.apply(await(anOngoing));
+        }
+
+        try {
+            final var aResult = aCall.get();
+            aFlight.complete(aResult);
+            return aResult;
+        } catch (final RuntimeException | Error ex) {
+            aFlight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.inFlight.remove(aKey, aFlight);
+        }
+    }
+
+    public int inFlight() {
+        return this.inFlight.size();
+    }
+
+    private static <V> V await(final CompletableFuture<V> aFlight) {
+        try {
+            return aFlight.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
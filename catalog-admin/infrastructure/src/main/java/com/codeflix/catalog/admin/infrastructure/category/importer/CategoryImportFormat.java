@@ -0,0 +1,128 @@
+package com.codeflix.catalog.admin.infrastructure.category.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+
+public enum CategoryImportFormat {
+
+    NDJSON(false) {
+        @Override
+        CreateCategoryRequest parse(final String aLine, final List<String> header) {
+            CreateCategoryRequest aRequest;
+            try {
+                aRequest = Json.readValueAsT(aLine, CreateCategoryRequest.class);
+            } catch (final RuntimeException ex) {
+                aRequest = null;
+            }
+
+            if (aRequest == null) {
+                throw DomainException.with(new Error("line is not a valid JSON object"));
+            }
+
+            return aRequest;
+        }
+    },
+
+    CSV(true) {
+        @Override
+        CreateCategoryRequest parse(final String aLine, final List<String> header) {
+            final var values = split(aLine);
+
+            if (values.size() != header.size()) {
+                throw DomainException.with(new Error(
+                        "line has %d columns, expected %d".formatted(values.size(), header.size())));
+            }
+
+            return new CreateCategoryRequest(
+                    column(header, values, "name"),
+                    column(header, values, "description"),
+                    bool(column(header, values, "is_active")));
+        }
+    };
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
+
+    private final boolean hasHeader;
+
+    CategoryImportFormat(final boolean hasHeader) {
+        this.hasHeader = hasHeader;
+    }
+
+    public static CategoryImportFormat from(final MediaType aContentType) {
+        return TEXT_CSV.isCompatibleWith(aContentType) ? CSV : NDJSON;
+    }
+
+    public boolean hasHeader() {
+        return hasHeader;
+    }
+
+    public List<String> header(final String aLine) {
+        return split(aLine).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    abstract CreateCategoryRequest parse(String aLine, List<String> header);
+
+    private static String column(final List<String> header, final List<String> values, final String aName) {
+        final var index = header.indexOf(aName);
+        return index < 0 ? null : values.get(index);
+    }
+
+    private static Boolean bool(final String aValue) {
+        if (aValue == null || aValue.isBlank()) {
+            return null;
+        }
+
+        return switch (aValue.trim().toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw DomainException.with(new Error("'is_active' must be true or false"));
+        };
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and doubled quotes, not line breaks
+    private static List<String> split(final String aLine) {
+        final var values = new ArrayList<String>();
+        final var current = new StringBuilder();
+        var quoted = false;
+
+        for (int i = 0; i < aLine.length(); i++) {
+            final var c = aLine.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < aLine.length() && aLine.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw DomainException.with(new Error("line has an unterminated quoted field"));
+        }
+
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,11 @@
+package com.codeflix.catalog.admin.infrastructure.category.importer;
+
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryImportErrorResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryImportProgressResponse;
+
+public interface CategoryImportListener {
+
+    void onError(CategoryImportErrorResponse anError);
+
+    void onProgress(CategoryImportProgressResponse aProgress);
+}
@@ -0,0 +1,146 @@
+package com.codeflix.catalog.admin.infrastructure.category.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.codeflix.catalog.admin.application.category.create.CreateCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryImportErrorResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryImportProgressResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+
+// Pulls one line at a time and blocks on each batch insert, so the client is only read as fast as rows are written.
+public class CategoryImporter {
+
+    private static final char BOM = '\uFEFF';
+
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+    private final int batchSize;
+
+    public CategoryImporter(final CreateCategoriesUseCase createCategoriesUseCase, final int batchSize) {
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.batchSize = batchSize;
+    }
+
+    public CategoryImportProgressResponse importFrom(
+            final InputStream anInput,
+            final CategoryImportFormat aFormat,
+            final CategoryImportListener aListener) {
+        final var progress = new Progress(aListener);
+        final var commands = new ArrayList<CreateCategoryCommand>(this.batchSize);
+        final var lines = new ArrayList<Long>(this.batchSize);
+
+        List<String> header = null;
+        long lineNumber = 0;
+
+        try (final var reader = new BufferedReader(new InputStreamReader(anInput, StandardCharsets.UTF_8))) {
+            String aLine;
+
+            while ((aLine = reader.readLine()) != null) {
+                lineNumber++;
+
+                if (lineNumber == 1 && !aLine.isEmpty() && aLine.charAt(0) == BOM) {
+                    aLine = aLine.substring(1);
+                }
+
+                if (aLine.isBlank()) {
+                    continue;
+                }
+
+                if (aFormat.hasHeader() && header == null) {
+                    header = aFormat.header(aLine);
+
+                    if (!header.contains("name")) {
+                        progress.failed(lineNumber, List.of(new Error("header must have a 'name' column")));
+                        return progress.report();
+                    }
+                    continue;
+                }
+
+                try {
+                    commands.add(toCommand(aFormat.parse(aLine, header)));
+                    lines.add(lineNumber);
+                } catch (final DomainException ex) {
+                    progress.failed(lineNumber, ex.getErrors());
+                }
+
+                if (commands.size() >= this.batchSize) {
+                    flush(commands, lines, progress);
+                    progress.report();
+                }
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        flush(commands, lines, progress);
+        return progress.report();
+    }
+
+    private void flush(
+            final List<CreateCategoryCommand> commands,
+            final List<Long> lines,
+            final Progress progress) {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        final var results = this.createCategoriesUseCase.execute(List.copyOf(commands));
+
+        for (int i = 0; i < results.size(); i++) {
+            final var aResult = results.get(i);
+
+            if (aResult.isLeft()) {
+                progress.failed(lines.get(i), aResult.getLeft().getErrors());
+            } else {
+                progress.imported();
+            }
+        }
+
+        commands.clear();
+        lines.clear();
+    }
+
+    private static CreateCategoryCommand toCommand(final CreateCategoryRequest input) {
+        return CreateCategoryCommand.with(
+                input.name(),
+                input.description(),
+                input.isActive() != null ? input.isActive() : true);
+    }
+
+    private static class Progress {
+
+        private final CategoryImportListener listener;
+        private long imported;
+        private long failed;
+
+        private Progress(final CategoryImportListener listener) {
+            this.listener = Objects.requireNonNull(listener);
+        }
+
+        private void imported() {
+            this.imported++;
+        }
+
+        private void failed(final long aLine, final List<Error> errors) {
+            this.failed++;
+            this.listener.onError(new CategoryImportErrorResponse(aLine, errors));
+        }
+
+        private CategoryImportProgressResponse report() {
+            final var aProgress = new CategoryImportProgressResponse(
+                    this.imported + this.failed, this.imported, this.failed);
+            this.listener.onProgress(aProgress);
+            return aProgress;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.codeflix.catalog.admin.infrastructure.category.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+import com.codeflix.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryIdType;
+import com.codeflix.catalog.admin.infrastructure.utils.CursorUtils;
+import com.codeflix.catalog.admin.infrastructure.utils.PaginationUtils;
+
+@Service
+@Primary
+@Profile(CategoryJdbcGateway.PROFILE)
+public class CategoryJdbcGateway implements CategoryGateway {
+
+    public static final String PROFILE = "jdbc-reads";
+
+    private static final String ID = "id";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "c.id",
+            "name", "c.name",
+            "description", "c.description",
+            "active", "c.active",
+            "createdAt", "c.created_at",
+            "updatedAt", "c.updated_at",
+            "deletedAt", "c.deleted_at");
+
+    private static final String SELECT = """
+            SELECT c.id, c.name, %s AS description, c.active, c.created_at, c.updated_at, c.deleted_at, c.version
+            FROM category c
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CategoryMySQLGateway categoryMySQLGateway;
+    private final boolean fullTextSearch;
+    private final boolean binaryIds;
+    private final int exportFetchSize;
+
+    public CategoryJdbcGateway(
+            final NamedParameterJdbcTemplate jdbcTemplate,
+            final CategoryMySQLGateway categoryMySQLGateway,
+            @Value("${category.listing.full-text-search:false}") final boolean fullTextSearch,
+            @Value("${spring.jpa.properties[category.id.binary]:false}") final boolean binaryIds,
+            @Value("${category.export.fetch-size:1000}") final int exportFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.categoryMySQLGateway = categoryMySQLGateway;
+        this.fullTextSearch = fullTextSearch;
+        this.binaryIds = binaryIds;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.categoryMySQLGateway.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.categoryMySQLGateway.createAll(categories);
+    }
+
+    @Override
+    public int deleteById(final CategoryID anId) {
+        return this.categoryMySQLGateway.deleteById(anId);
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        return this.categoryMySQLGateway.deleteAllByIds(anIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Category> findById(final CategoryID anId) {
+        if (!isStorable(anId)) {
+            return Optional.empty();
+        }
+
+        final var sql = select(DescriptionMode.FULL) + "WHERE c.id = :id";
+
+        return this.jdbcTemplate.query(sql, Map.of(ID, toParam(anId.getValue())), this::toCategory)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        if (!isStorable(anId)) {
+            return Optional.empty();
+        }
+
+        final var sql = "SELECT c.version, c.updated_at FROM category c WHERE c.id = :id";
+
+        return this.jdbcTemplate.query(
+                        sql,
+                        Map.of(ID, toParam(anId.getValue())),
+                        (rs, rowNum) -> new CategoryVersion(anId, rs.getLong("version"), instant(rs, "updated_at")))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        final var ids = anIds == null ? List.of() : anIds.stream()
+                .filter(this::isStorable)
+                .map(anId -> toParam(anId.getValue()))
+                .toList();
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final var sql = select(DescriptionMode.FULL) + "WHERE c.id IN (:ids)";
+
+        return this.jdbcTemplate.query(sql, Map.of("ids", ids), this::toCategory);
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return this.categoryMySQLGateway.findByIdForUpdate(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return this.categoryMySQLGateway.findAllByIdsForUpdate(anIds);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.categoryMySQLGateway.update(aCategory);
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return this.categoryMySQLGateway.updateAll(categories);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        final var terms = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank());
+        final var sortColumn = SORT_COLUMNS.get(aQuery.sort());
+        final var totalMode = aQuery.totalMode() != null ? aQuery.totalMode() : TotalMode.NONE;
+
+        // full-text matching, relevance ordering and count estimates stay on the JPA path
+        if (sortColumn == null
+                || totalMode == TotalMode.ESTIMATED
+                || (this.fullTextSearch && terms.isPresent())) {
+            return this.categoryMySQLGateway.findAll(aQuery);
+        }
+
+        final var ascending = Direction.fromString(aQuery.direction()).isAscending();
+        final var direction = ascending ? Direction.ASC : Direction.DESC;
+        final var params = new MapSqlParameterSource();
+        final var filters = new ArrayList<String>();
+
+        terms.ifPresent(str -> {
+            filters.add("(UPPER(c.name) LIKE :terms OR UPPER(c.description) LIKE :terms)");
+            params.addValue("terms", "%" + str.toUpperCase() + "%");
+        });
+
+        final var where = filters.isEmpty() ? "" : "WHERE " + String.join(" AND ", filters) + "\n";
+
+        if (aQuery.hasCursor()) {
+            filters.add(after(aQuery, sortColumn, ascending, params));
+        }
+
+        final var offset = aQuery.hasCursor() ? 0L : (long) aQuery.page() * aQuery.perPage();
+        params.addValue("limit", aQuery.perPage() + 1);
+        params.addValue("offset", offset);
+
+        final var sql = select(descriptionMode(aQuery))
+                + (filters.isEmpty() ? "" : "WHERE " + String.join(" AND ", filters) + "\n")
+                + "ORDER BY %s %s, c.id %s\n".formatted(sortColumn, direction, direction)
+                + "LIMIT :limit OFFSET :offset";
+
+        final var rows = this.jdbcTemplate.query(sql, params, this::toCategory);
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var items = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total(totalMode, where, params, PaginationUtils.lastPageTotal(
+                        aQuery.hasCursor(), aQuery.page(), offset, items.size(), hasNext)),
+                List.copyOf(items),
+                hasNext && !items.isEmpty() ? nextCursor(aQuery.sort(), items.get(items.size() - 1)) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(final Consumer<Category> aConsumer) {
+        final var sql = select(DescriptionMode.FULL) + "ORDER BY c.id";
+
+        this.jdbcTemplate.getJdbcTemplate().query(
+                connection -> {
+                    final PreparedStatement statement = connection.prepareStatement(sql);
+                    statement.setFetchSize(this.exportFetchSize);
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> aConsumer.accept(toCategory(rs, rs.getRow())));
+    }
+
+    private String after(
+            final CategorySearchQuery aQuery,
+            final String sortColumn,
+            final boolean ascending,
+            final MapSqlParameterSource params) {
+        final var cursor = CursorUtils.decodeSort(aQuery.after(), aQuery.sort());
+
+        params.addValue("afterId", toParam(cursor.id()));
+        final var nextId = ascending ? "c.id > :afterId" : "c.id < :afterId";
+
+        // NULL sort keys come first on ascending and last on descending order (MySQL semantics)
+        if (cursor.value() == null) {
+            final var sameKey = "(%s IS NULL AND %s)".formatted(sortColumn, nextId);
+            return ascending ? "(%s OR %s IS NOT NULL)".formatted(sameKey, sortColumn) : sameKey;
+        }
+
+        params.addValue("afterValue", parse(aQuery.sort(), cursor.value()));
+        final var nextKey = "%s %s :afterValue".formatted(sortColumn, ascending ? ">" : "<");
+        final var sameKey = "(%s = :afterValue AND %s)".formatted(sortColumn, nextId);
+
+        return ascending
+                ? "(%s OR %s)".formatted(nextKey, sameKey)
+                : "(%s OR %s OR %s IS NULL)".formatted(nextKey, sameKey, sortColumn);
+    }
+
+    private long total(
+            final TotalMode aMode,
+            final String where,
+            final MapSqlParameterSource params,
+            final OptionalLong aKnownTotal) {
+        final LongSupplier aCount = () -> {
+            final var count = this.jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM category c\n" + where, params, Long.class);
+            return count != null ? count : 0L;
+        };
+
+        // estimated totals never get here, findAll hands them to the JPA gateway
+        return PaginationUtils.total(aMode, aKnownTotal, aCount, aCount);
+    }
+
+    private static String nextCursor(final String aSort, final Category last) {
+        final Object value = switch (aSort) {
+            case "name" -> last.getName();
+            case "description" -> last.getDescription();
+            case "active" -> last.isActive();
+            case "createdAt" -> last.getCreatedAt();
+            case "updatedAt" -> last.getUpdatedAt();
+            case "deletedAt" -> last.getDeletedAt();
+            default -> last.getId().getValue();
+        };
+
+        return CursorUtils.encodeSort(aSort, value, last.getId().getValue());
+    }
+
+    private Object parse(final String aSort, final String value) {
+        return switch (aSort) {
+            case "createdAt", "updatedAt", "deletedAt" -> Timestamp.from(Instant.parse(value));
+            case "active" -> Boolean.valueOf(value);
+            case "id" -> toParam(value);
+            default -> value;
+        };
+    }
+
+    private static String select(final DescriptionMode aMode) {
+        final var description = switch (aMode) {
+            case FULL -> "c.description";
+            case TRUNCATED -> "SUBSTRING(c.description, 1, %d)".formatted(DescriptionMode.TRUNCATED_LENGTH);
+            case NONE -> "NULL";
+        };
+
+        return SELECT.formatted(description);
+    }
+
+    private static DescriptionMode descriptionMode(final CategorySearchQuery aQuery) {
+        return aQuery.descriptionMode() != null ? aQuery.descriptionMode() : DescriptionMode.FULL;
+    }
+
+    // same rule as the JPA gateway: a non-uuid id never names a row of a binary id column
+    private boolean isStorable(final CategoryID anId) {
+        return !this.binaryIds || CategoryIdType.isUuid(anId.getValue());
+    }
+
+    private Object toParam(final String anId) {
+        return this.binaryIds ? CategoryIdType.toBytes(anId) : anId;
+    }
+
+    private Category toCategory(final ResultSet rs, final int rowNum) throws SQLException {
+        return Category.with(
+                CategoryID.from(this.binaryIds ? CategoryIdType.fromBytes(rs.getBytes("id")) : rs.getString("id")),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBoolean("active"),
+                instant(rs, "created_at"),
+                instant(rs, "updated_at"),
+                instant(rs, "deleted_at"),
+                rs.getLong("version"));
+    }
+
+    private static Instant instant(final ResultSet rs, final String aColumn) throws SQLException {
+        final var aTimestamp = rs.getTimestamp(aColumn);
+        return aTimestamp != null ? aTimestamp.toInstant() : null;
+    }
+}
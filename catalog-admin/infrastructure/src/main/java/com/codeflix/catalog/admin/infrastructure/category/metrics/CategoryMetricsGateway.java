@@ -0,0 +1,135 @@
+package com.codeflix.catalog.admin.infrastructure.category.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.util.ClassUtils;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.infrastructure.configuration.metrics.OutcomeTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+public class CategoryMetricsGateway implements CategoryGateway {
+
+    public static final String METRIC_NAME = "categories.gateway";
+
+    private final CategoryGateway categoryGateway;
+    private final OutcomeTimer create;
+    private final OutcomeTimer createAll;
+    private final OutcomeTimer deleteById;
+    private final OutcomeTimer deleteAllByIds;
+    private final OutcomeTimer findById;
+    private final OutcomeTimer findVersionById;
+    private final OutcomeTimer findAllByIds;
+    private final OutcomeTimer findByIdForUpdate;
+    private final OutcomeTimer findAllByIdsForUpdate;
+    private final OutcomeTimer update;
+    private final OutcomeTimer updateAll;
+    private final OutcomeTimer findAll;
+    private final OutcomeTimer streamAll;
+
+    private CategoryMetricsGateway(final CategoryGateway categoryGateway, final MeterRegistry meterRegistry) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+
+        final var aGateway = ClassUtils.getUserClass(categoryGateway).getSimpleName();
+        this.create = timer(meterRegistry, aGateway, "create");
+        this.createAll = timer(meterRegistry, aGateway, "createAll");
+        this.deleteById = timer(meterRegistry, aGateway, "deleteById");
+        this.deleteAllByIds = timer(meterRegistry, aGateway, "deleteAllByIds");
+        this.findById = timer(meterRegistry, aGateway, "findById");
+        this.findVersionById = timer(meterRegistry, aGateway, "findVersionById");
+        this.findAllByIds = timer(meterRegistry, aGateway, "findAllByIds");
+        this.findByIdForUpdate = timer(meterRegistry, aGateway, "findByIdForUpdate");
+        this.findAllByIdsForUpdate = timer(meterRegistry, aGateway, "findAllByIdsForUpdate");
+        this.update = timer(meterRegistry, aGateway, "update");
+        this.updateAll = timer(meterRegistry, aGateway, "updateAll");
+        this.findAll = timer(meterRegistry, aGateway, "findAll");
+        this.streamAll = timer(meterRegistry, aGateway, "streamAll");
+    }
+
+    public static CategoryMetricsGateway create(final CategoryGateway categoryGateway, final MeterRegistry meterRegistry) {
+        return new CategoryMetricsGateway(categoryGateway, meterRegistry);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.create.record(() -> this.categoryGateway.create(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.createAll.record(() -> this.categoryGateway.createAll(categories));
+    }
+
+    @Override
+    public int deleteById(final CategoryID anId) {
+        return this.deleteById.record(() -> this.categoryGateway.deleteById(anId));
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        return this.deleteAllByIds.record(() -> this.categoryGateway.deleteAllByIds(anIds));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.findById.record(() -> this.categoryGateway.findById(anId));
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        return this.findVersionById.record(() -> this.categoryGateway.findVersionById(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return this.findAllByIds.record(() -> this.categoryGateway.findAllByIds(anIds));
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return this.findByIdForUpdate.record(() -> this.categoryGateway.findByIdForUpdate(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return this.findAllByIdsForUpdate.record(() -> this.categoryGateway.findAllByIdsForUpdate(anIds));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.update.record(() -> this.categoryGateway.update(aCategory));
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return this.updateAll.record(() -> this.categoryGateway.updateAll(categories));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.findAll.record(() -> this.categoryGateway.findAll(aQuery));
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        this.streamAll.record(() -> {
+            this.categoryGateway.streamAll(aConsumer);
+            return null;
+        });
+    }
+
+    private static OutcomeTimer timer(final MeterRegistry meterRegistry, final String aGateway, final String aMethod) {
+        return OutcomeTimer.create(meterRegistry, METRIC_NAME, Tags.of("gateway", aGateway, "method", aMethod));
+    }
+}
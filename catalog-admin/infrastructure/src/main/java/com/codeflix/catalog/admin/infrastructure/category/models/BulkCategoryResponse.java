@@ -0,0 +1,12 @@
+package com.codeflix.catalog.admin.infrastructure.category.models;
+
+import java.util.List;
+
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BulkCategoryResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors) {
+
+}
@@ -0,0 +1,9 @@
+package com.codeflix.catalog.admin.infrastructure.category.models;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BulkUpdateCategoriesRequest(
+        @JsonProperty("items") List<BulkUpdateCategoryRequest> items) {
+}
@@ -0,0 +1,9 @@
+package com.codeflix.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CategoryExportErrorResponse(
+        @JsonProperty("error") String error,
+        @JsonProperty("exported") long exported) {
+
+}
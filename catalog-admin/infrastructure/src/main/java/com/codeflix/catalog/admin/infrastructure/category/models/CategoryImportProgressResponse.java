@@ -0,0 +1,10 @@
+package com.codeflix.catalog.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CategoryImportProgressResponse(
+        @JsonProperty("processed") long processed,
+        @JsonProperty("imported") long imported,
+        @JsonProperty("failed") long failed) {
+
+}
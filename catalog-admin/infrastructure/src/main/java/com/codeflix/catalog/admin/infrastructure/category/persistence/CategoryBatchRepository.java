@@ -0,0 +1,13 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface CategoryBatchRepository {
+
+    List<CategoryJpaEntity> insertAll(List<CategoryJpaEntity> entities);
+
+    List<CategoryJpaEntity> updateAll(List<CategoryJpaEntity> entities);
+
+    Stream<CategoryJpaEntity> streamAll(int fetchSize);
+}
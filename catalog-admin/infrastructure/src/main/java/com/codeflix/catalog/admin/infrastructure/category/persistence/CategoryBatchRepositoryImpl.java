@@ -0,0 +1,73 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.jpa.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+public class CategoryBatchRepositoryImpl implements CategoryBatchRepository {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final EntityManager entityManager;
+
+    public CategoryBatchRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> insertAll(final List<CategoryJpaEntity> entities) {
+        // persist instead of merge: ids are assigned, so merge would SELECT each row before inserting it
+        for (int i = 0; i < entities.size(); i++) {
+            this.entityManager.persist(entities.get(i));
+            flushEvery(i + 1);
+        }
+
+        flush();
+        return entities;
+    }
+
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> updateAll(final List<CategoryJpaEntity> entities) {
+        // loads the current rows with one query so the merges below resolve from the persistence context
+        this.entityManager
+                .createQuery("select c from CategoryJpaEntity c where c.id in :ids", CategoryJpaEntity.class)
+                .setParameter("ids", entities.stream().map(CategoryJpaEntity::getId).toList())
+                .getResultList();
+
+        final var merged = entities.stream().map(this.entityManager::merge).toList();
+
+        flush();
+        return merged;
+    }
+
+    // projected rows are not attached to the persistence context, so it does not grow while streaming
+    @Override
+    public Stream<CategoryJpaEntity> streamAll(final int fetchSize) {
+        return this.entityManager
+                .createQuery("""
+                        select new com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity(
+                            c.id, c.name, c.description, c.active, c.createdAt, c.updatedAt, c.deletedAt, c.version)
+                        from CategoryJpaEntity c
+                        order by c.id
+                        """, CategoryJpaEntity.class)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private void flushEvery(final int count) {
+        if (count % FLUSH_INTERVAL == 0) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+}
@@ -0,0 +1,112 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// Estimated totals come from the optimizer's statistics instead of a COUNT(*), so they cost the same on any table
+// size. Full-text matches and databases without those statistics (H2 in the integration tests) are counted exactly.
+@Component
+public class CategoryCountEstimator {
+
+    static final int MAX_ENTRIES = 1024;
+
+    static final String TABLE_ROWS = """
+            SELECT TABLE_ROWS FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category'
+            """;
+
+    static final String EXPLAIN_LIKE = """
+            EXPLAIN SELECT c.id FROM category c
+            WHERE UPPER(c.name) LIKE :terms OR UPPER(c.description) LIKE :terms
+            """;
+
+    private final CategoryRepository categoryRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean statistics;
+    private final Cache<String, Long> estimates;
+
+    @Autowired
+    public CategoryCountEstimator(
+            final CategoryRepository categoryRepository,
+            final NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${category.listing.estimated-total-ttl:60s}") final Duration ttl) {
+        this(categoryRepository, jdbcTemplate, ttl, isMySQL(jdbcTemplate));
+    }
+
+    public CategoryCountEstimator(
+            final CategoryRepository categoryRepository,
+            final NamedParameterJdbcTemplate jdbcTemplate,
+            final Duration ttl,
+            final boolean statistics) {
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.statistics = statistics;
+        this.estimates = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // aBooleanQuery is the full-text query the listing matches with, or null when it filters with LIKE
+    public long estimate(
+            final String terms,
+            final String aBooleanQuery,
+            final Specification<CategoryJpaEntity> whereClause) {
+        final var filtered = terms != null && !terms.isBlank();
+        final var aKey = !filtered ? ""
+                : aBooleanQuery != null ? "match:" + aBooleanQuery
+                : "like:" + terms.trim().toUpperCase();
+
+        return this.estimates.get(aKey, key -> {
+            // EXPLAIN reports rows=1 for any fulltext index lookup, so a match has no usable statistics
+            if (!this.statistics || (filtered && aBooleanQuery != null)) {
+                return this.categoryRepository.count(whereClause);
+            }
+
+            if (!filtered) {
+                return tableRows();
+            }
+
+            return explainRows(EXPLAIN_LIKE, new MapSqlParameterSource("terms", "%" + terms.toUpperCase() + "%"));
+        });
+    }
+
+    private long tableRows() {
+        final var rows = this.jdbcTemplate.queryForObject(TABLE_ROWS, new MapSqlParameterSource(), Long.class);
+        return rows != null ? rows : 0L;
+    }
+
+    // rows is what the chosen plan reads and filtered the share of them expected to survive the WHERE clause
+    private long explainRows(final String anExplain, final MapSqlParameterSource params) {
+        final Long rows = this.jdbcTemplate.query(anExplain, params, rs -> {
+            var total = 0L;
+            while (rs.next()) {
+                total += Math.round(rs.getLong("rows") * rs.getDouble("filtered") / 100);
+            }
+            return total;
+        });
+        return rows != null ? rows : 0L;
+    }
+
+    private static boolean isMySQL(final NamedParameterJdbcTemplate jdbcTemplate) {
+        try {
+            final var aProduct = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getJdbcTemplate().getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(aProduct);
+        } catch (final MetaDataAccessException ex) {
+            return false;
+        }
+    }
+}
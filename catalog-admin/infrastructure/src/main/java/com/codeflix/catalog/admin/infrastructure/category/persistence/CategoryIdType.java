@@ -0,0 +1,106 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.java.StringTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+import org.hibernate.type.descriptor.sql.VarcharTypeDescriptor;
+
+public class CategoryIdType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String NAME = "category_id";
+
+    public static final CategoryIdType VARCHAR = new CategoryIdType(
+            VarcharTypeDescriptor.INSTANCE, StringTypeDescriptor.INSTANCE);
+
+    public static final CategoryIdType BINARY = new CategoryIdType(
+            BinaryTypeDescriptor.INSTANCE, BinaryUuidTypeDescriptor.INSTANCE);
+
+    // UUID.fromString also takes shortened groups such as 1-1-1-1-1, only the canonical form round-trips
+    private static final Pattern UUID_PATTERN = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    private CategoryIdType(
+            final SqlTypeDescriptor sqlTypeDescriptor,
+            final JavaTypeDescriptor<String> javaTypeDescriptor) {
+        super(sqlTypeDescriptor, javaTypeDescriptor);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    public static boolean isUuid(final String anId) {
+        return anId != null && UUID_PATTERN.matcher(anId).matches();
+    }
+
+    public static byte[] toBytes(final String anId) {
+        final var anUuid = UUID.fromString(anId);
+
+        return ByteBuffer.allocate(16)
+                .putLong(anUuid.getMostSignificantBits())
+                .putLong(anUuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] bytes) {
+        final var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    static class BinaryUuidTypeDescriptor extends AbstractTypeDescriptor<String> {
+
+        static final BinaryUuidTypeDescriptor INSTANCE = new BinaryUuidTypeDescriptor();
+
+        private BinaryUuidTypeDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (byte[].class.isAssignableFrom(type)) {
+                return (X) toBytes(value);
+            }
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value;
+            }
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof byte[] bytes) {
+                return fromBytes(bytes);
+            }
+            if (value instanceof String string) {
+                return string;
+            }
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
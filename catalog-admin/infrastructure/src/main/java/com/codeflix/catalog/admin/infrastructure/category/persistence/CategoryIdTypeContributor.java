@@ -0,0 +1,20 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.service.ServiceRegistry;
+
+public class CategoryIdTypeContributor implements TypeContributor {
+
+    public static final String BINARY_IDS = "category.id.binary";
+
+    @Override
+    public void contribute(final TypeContributions typeContributions, final ServiceRegistry serviceRegistry) {
+        final var binary = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(BINARY_IDS, StandardConverters.BOOLEAN, false);
+
+        typeContributions.contributeType(binary ? CategoryIdType.BINARY : CategoryIdType.VARCHAR);
+    }
+}
@@ -3,17 +3,25 @@ package com.codeflix.catalog.admin.infrastructure.category.persistence;
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryID;
 
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.time.Instant;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<String> {
 
     @Id
+    @Type(type = CategoryIdType.NAME)
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -34,6 +42,15 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    // merges and updates compare this against the row, so a stale copy fails instead of overwriting newer data
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // ids are assigned by the domain, so Spring Data can not tell a new row from a detached one by its id
+    @Transient
+    private boolean isNew;
+
     public CategoryJpaEntity() {
     }
 
@@ -44,7 +61,8 @@ public class CategoryJpaEntity {
             boolean active,
             Instant createdAt,
             Instant updatedAt,
-            Instant deletedAt) {
+            Instant deletedAt,
+            long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -52,6 +70,7 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category aCategory) {
@@ -62,7 +81,14 @@ public class CategoryJpaEntity {
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt());
+                aCategory.getDeletedAt(),
+                aCategory.getVersion());
+    }
+
+    public static CategoryJpaEntity newEntity(final Category aCategory) {
+        final var anEntity = from(aCategory);
+        anEntity.isNew = true;
+        return anEntity;
     }
 
     public Category toAggregate() {
@@ -73,9 +99,22 @@ public class CategoryJpaEntity {
                 isActive(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt());
+                getDeletedAt(),
+                getVersion());
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
     }
 
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -131,4 +170,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -1,11 +1,34 @@
 package com.codeflix.catalog.admin.infrastructure.category.persistence;
 
+import java.util.Collection;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, CategorySliceRepository,
+        CategoryBatchRepository {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable pageable);
+
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    @Query("select c.version as version, c.updatedAt as updatedAt from CategoryJpaEntity c where c.id = :id")
+    Optional<CategoryVersionProjection> findVersionById(@Param("id") String anId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CategoryJpaEntity c where c.id = :id")
+    int deleteOneById(@Param("id") String anId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from CategoryJpaEntity c where c.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<String> anIds);
 }
@@ -0,0 +1,17 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+
+public interface CategorySliceRepository {
+
+    Slice<CategoryJpaEntity> findAllSliced(Specification<CategoryJpaEntity> whereClause, Pageable pageable);
+
+    Slice<CategoryJpaEntity> findAllSliced(
+            Specification<CategoryJpaEntity> whereClause,
+            Pageable pageable,
+            DescriptionMode descriptionMode);
+}
@@ -0,0 +1,91 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+
+public class CategorySliceRepositoryImpl implements CategorySliceRepository {
+
+    private final EntityManager entityManager;
+
+    public CategorySliceRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Slice<CategoryJpaEntity> findAllSliced(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Pageable pageable) {
+        return findAllSliced(whereClause, pageable, DescriptionMode.FULL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CategoryJpaEntity> findAllSliced(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Pageable pageable,
+            final DescriptionMode descriptionMode) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        // constructor projection: rows are not managed, so no snapshots or dirty checking on read
+        query.select(cb.construct(
+                CategoryJpaEntity.class,
+                root.get("id"),
+                root.get("name"),
+                description(root, cb, descriptionMode),
+                root.get("active"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("deletedAt"),
+                root.get("version")));
+
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        // fetches one extra row to know whether there is a next slice without a COUNT(*)
+        final var content = this.entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        final var hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(
+                hasNext ? content.subList(0, pageable.getPageSize()) : content,
+                pageable,
+                hasNext);
+    }
+
+    private Expression<String> description(
+            final Root<CategoryJpaEntity> root,
+            final CriteriaBuilder cb,
+            final DescriptionMode descriptionMode) {
+        final Expression<String> description = root.get("description");
+
+        return switch (descriptionMode) {
+            case FULL -> description;
+            case TRUNCATED -> cb.substring(description, 1, DescriptionMode.TRUNCATED_LENGTH);
+            case NONE -> cb.nullLiteral(String.class);
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import java.time.Instant;
+
+public interface CategoryVersionProjection {
+
+    long getVersion();
+
+    Instant getUpdatedAt();
+}
@@ -1,7 +1,11 @@
 package com.codeflix.catalog.admin.infrastructure.category.presenters;
 
+import java.util.List;
+
 import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
 import com.codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkCategoryResponse;
 import com.codeflix.catalog.admin.infrastructure.category.models.CategoryResponse;
 import com.codeflix.catalog.admin.infrastructure.category.models.CategoryListResponse;
 
@@ -27,4 +31,12 @@ public interface CategoryApiPresenter {
                 output.createdAt(),
                 output.deletedAt());
     }
+
+    static BulkCategoryResponse present(final String anId) {
+        return new BulkCategoryResponse(anId, List.of());
+    }
+
+    static BulkCategoryResponse present(final String anId, final Notification notification) {
+        return new BulkCategoryResponse(anId, notification.getErrors());
+    }
 }
@@ -0,0 +1,381 @@
+package com.codeflix.catalog.admin.infrastructure.category.search;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.infrastructure.utils.CursorUtils;
+
+public class CategorySearchIndex {
+
+    private static final Pattern NON_TOKEN = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final String RELEVANCE = "relevance";
+
+    private final Map<CategoryID, Category> documents = new HashMap<>();
+    private final Map<CategoryID, Set<String>> documentTokens = new HashMap<>();
+    private final Map<CategoryID, Set<String>> nameTokens = new HashMap<>();
+    private final NavigableMap<String, Set<CategoryID>> postings = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(final Category aCategory) {
+        final var anId = aCategory.getId();
+        final var tokens = tokenize(aCategory.getName(), aCategory.getDescription());
+        final var names = tokenize(aCategory.getName());
+
+        this.lock.writeLock().lock();
+        try {
+            // writes can reach the index out of order, so an older version never replaces a newer one
+            final var anIndexed = this.documents.get(anId);
+            if (anIndexed != null && aCategory.getVersion() < anIndexed.getVersion()) {
+                return;
+            }
+
+            unindex(anId);
+            this.documents.put(anId, Category.with(aCategory));
+            this.documentTokens.put(anId, tokens);
+            this.nameTokens.put(anId, names);
+            tokens.forEach(token -> this.postings.computeIfAbsent(token, key -> new HashSet<>()).add(anId));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final CategoryID anId) {
+        this.lock.writeLock().lock();
+        try {
+            unindex(anId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<Category> search(final String terms) {
+        final var queryTokens = tokenize(terms);
+
+        this.lock.readLock().lock();
+        try {
+            return matches(queryTokens).stream()
+                    .map(this.documents::get)
+                    .map(Category::with)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Pagination<Category>> search(final CategorySearchQuery aQuery) {
+        final var queryTokens = tokenize(aQuery.terms());
+
+        // terms made only of separators have nothing to look up, so the wrapped gateway answers them with LIKE
+        if (queryTokens.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var byRelevance = RELEVANCE.equalsIgnoreCase(aQuery.sort());
+        final var aSortKey = byRelevance ? Optional.<SortKey>empty() : SortKey.from(aQuery.sort());
+
+        if (!byRelevance && aSortKey.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var sortKey = aSortKey.orElse(null);
+        final var ascending = !"desc".equalsIgnoreCase(aQuery.direction());
+        // relevance is always best match first, as on the full-text listing
+        final var order = byRelevance || ascending ? Entry.ORDER : Entry.ORDER.reversed();
+
+        Entry after = null;
+        if (aQuery.hasCursor()) {
+            if (byRelevance) {
+                throw DomainException.with(new Error("'after' cursor can not be used when sorting by relevance"));
+            }
+
+            after = after(aQuery, sortKey);
+        }
+
+        final var offset = after != null ? 0L : (long) Math.max(aQuery.page(), 0) * aQuery.perPage();
+        final List<Entry> selected;
+        final int matched;
+
+        this.lock.readLock().lock();
+        try {
+            final var matches = matches(queryTokens);
+            final Function<CategoryID, Comparable<?>> aKey = byRelevance
+                    ? anId -> -relevance(queryTokens, anId)
+                    : anId -> sortKey.of(this.documents.get(anId));
+            matched = matches.size();
+            // one entry past the page tells whether there is a next one
+            selected = select(matches, aKey, order, after, (int) Math.min(offset + aQuery.perPage() + 1, matched));
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        final var fromIndex = (int) Math.min(offset, selected.size());
+        final var toIndex = (int) Math.min(offset + aQuery.perPage(), selected.size());
+        final var descriptionMode = aQuery.descriptionMode() != null ? aQuery.descriptionMode() : DescriptionMode.FULL;
+        final var items = selected.subList(fromIndex, toIndex).stream()
+                .map(anEntry -> withDescription(anEntry.category(), descriptionMode))
+                .toList();
+
+        final var nextCursor = toIndex < selected.size() && !items.isEmpty() && !byRelevance
+                ? sortKey.cursor(selected.get(toIndex - 1).category())
+                : null;
+
+        final var total = aQuery.totalMode() == null || aQuery.totalMode() == TotalMode.NONE
+                ? Pagination.UNKNOWN_TOTAL
+                : matched;
+
+        return Optional.of(new Pagination<>(aQuery.page(), aQuery.perPage(), total, items, nextCursor));
+    }
+
+    // callers hold the read lock
+    private Set<CategoryID> matches(final Set<String> queryTokens) {
+        if (queryTokens.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<CategoryID> matches = null;
+
+        for (final var token : queryTokens) {
+            final var tokenMatches = new HashSet<CategoryID>();
+            this.postings.subMap(token, true, token + Character.MAX_VALUE, false)
+                    .values()
+                    .forEach(tokenMatches::addAll);
+
+            if (matches == null) {
+                matches = tokenMatches;
+            } else {
+                matches.retainAll(tokenMatches);
+            }
+
+            if (matches.isEmpty()) {
+                return Set.of();
+            }
+        }
+
+        return matches;
+    }
+
+    // a whole word scores over a prefix of one, and a name hit twice a description one. Callers hold the read lock.
+    private int relevance(final Set<String> queryTokens, final CategoryID anId) {
+        final var names = this.nameTokens.get(anId);
+        final var tokens = this.documentTokens.get(anId);
+        var score = 0;
+
+        for (final var token : queryTokens) {
+            if (names.contains(token)) {
+                score += 4;
+            } else if (hasPrefix(names, token)) {
+                score += 2;
+            } else if (tokens.contains(token)) {
+                score += 2;
+            } else {
+                score += 1;
+            }
+        }
+
+        return score;
+    }
+
+    private static boolean hasPrefix(final Set<String> tokens, final String aPrefix) {
+        for (final var token : tokens) {
+            if (token.startsWith(aPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // keeps only the first entries in a bounded heap, so a page costs O(n log k) instead of sorting every match.
+    // Callers hold the read lock.
+    private List<Entry> select(
+            final Set<CategoryID> matches,
+            final Function<CategoryID, Comparable<?>> aKey,
+            final Comparator<Entry> order,
+            final Entry after,
+            final int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        final var heap = new PriorityQueue<Entry>(limit + 1, order.reversed());
+
+        for (final var anId : matches) {
+            final var aCategory = this.documents.get(anId);
+            final var anEntry = new Entry(aKey.apply(anId), anId.getValue(), aCategory);
+
+            if (after != null && order.compare(anEntry, after) <= 0) {
+                continue;
+            }
+
+            if (heap.size() < limit) {
+                heap.add(anEntry);
+            } else if (order.compare(anEntry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(anEntry);
+            }
+        }
+
+        final var selected = new ArrayList<>(heap);
+        selected.sort(order);
+        return selected;
+    }
+
+    private static Category withDescription(final Category aCategory, final DescriptionMode descriptionMode) {
+        if (descriptionMode == DescriptionMode.FULL) {
+            return Category.with(aCategory);
+        }
+
+        return Category.with(
+                aCategory.getId(),
+                aCategory.getName(),
+                descriptionMode.apply(aCategory.getDescription()),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                aCategory.getVersion());
+    }
+
+    private static Entry after(final CategorySearchQuery aQuery, final SortKey sortKey) {
+        final var cursor = CursorUtils.decodeSort(aQuery.after(), sortKey.property);
+        final var afterKey = cursor.value() != null ? sortKey.parse(cursor.value()) : null;
+        return new Entry(afterKey, cursor.id(), null);
+    }
+
+    private void unindex(final CategoryID anId) {
+        this.documents.remove(anId);
+        this.nameTokens.remove(anId);
+
+        final var tokens = this.documentTokens.remove(anId);
+        if (tokens == null) {
+            return;
+        }
+
+        tokens.forEach(token -> {
+            final var ids = this.postings.get(token);
+            if (ids != null) {
+                ids.remove(anId);
+                if (ids.isEmpty()) {
+                    this.postings.remove(token);
+                }
+            }
+        });
+    }
+
+    static Set<String> tokenize(final String... texts) {
+        return Arrays.stream(texts)
+                .filter(text -> text != null && !text.isBlank())
+                .flatMap(text -> NON_TOKEN.splitAsStream(fold(text)))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    static String fold(final String text) {
+        if (text == null) {
+            return null;
+        }
+
+        return MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static int compare(
+            final Comparable aKey,
+            final String anId,
+            final Comparable otherKey,
+            final String otherId) {
+        // NULL sort keys come first on ascending order, mirroring the database listing
+        final int result;
+        if (aKey == null || otherKey == null) {
+            result = aKey == otherKey ? 0 : aKey == null ? -1 : 1;
+        } else {
+            result = aKey.compareTo(otherKey);
+        }
+
+        return result != 0 ? result : anId.compareTo(otherId);
+    }
+
+    private enum SortKey {
+        NAME("name", Category::getName, value -> value),
+        DESCRIPTION("description", Category::getDescription, value -> value),
+        ACTIVE("active", Category::isActive, Boolean::valueOf),
+        CREATED_AT("createdAt", Category::getCreatedAt, Instant::parse),
+        UPDATED_AT("updatedAt", Category::getUpdatedAt, Instant::parse),
+        DELETED_AT("deletedAt", Category::getDeletedAt, Instant::parse);
+
+        private final String property;
+        private final Function<Category, Object> getter;
+        private final Function<String, Object> parser;
+
+        SortKey(final String property, final Function<Category, Object> getter, final Function<String, Object> parser) {
+            this.property = property;
+            this.getter = getter;
+            this.parser = parser;
+        }
+
+        static Optional<SortKey> from(final String aProperty) {
+            return Arrays.stream(values())
+                    .filter(key -> key.property.equals(aProperty))
+                    .findFirst();
+        }
+
+        Comparable<?> of(final Category aCategory) {
+            return comparable(this.getter.apply(aCategory));
+        }
+
+        Comparable<?> parse(final String aValue) {
+            return comparable(this.parser.apply(aValue));
+        }
+
+        String cursor(final Category aCategory) {
+            return CursorUtils.encodeSort(this.property, this.getter.apply(aCategory), aCategory.getId().getValue());
+        }
+
+        private static Comparable<?> comparable(final Object aValue) {
+            return aValue instanceof String str ? fold(str) : (Comparable<?>) aValue;
+        }
+    }
+
+    // the sort key is folded once per match instead of on every comparison
+    private record Entry(Comparable<?> key, String id, Category category) {
+
+        static final Comparator<Entry> ORDER = (a, b) -> compare(a.key, a.id, b.key, b.id);
+    }
+}
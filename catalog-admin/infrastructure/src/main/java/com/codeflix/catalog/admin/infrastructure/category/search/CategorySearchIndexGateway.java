@@ -0,0 +1,129 @@
+package com.codeflix.catalog.admin.infrastructure.category.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+
+public class CategorySearchIndexGateway implements CategoryGateway {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final CategoryGateway categoryGateway;
+    private final CategorySearchIndex searchIndex;
+
+    public CategorySearchIndexGateway(final CategoryGateway categoryGateway, final CategorySearchIndex searchIndex) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+    }
+
+    public static CategorySearchIndexGateway load(final CategoryGateway categoryGateway) {
+        final var aGateway = new CategorySearchIndexGateway(categoryGateway, new CategorySearchIndex());
+        aGateway.rebuild();
+        return aGateway;
+    }
+
+    public void rebuild() {
+        String after = null;
+
+        do {
+            final var aQuery = new CategorySearchQuery(
+                    0, LOAD_BATCH_SIZE, "", "createdAt", "asc", after, TotalMode.NONE);
+            final var aPage = this.categoryGateway.findAll(aQuery);
+
+            aPage.items().forEach(this.searchIndex::put);
+            after = aPage.nextCursor();
+        } while (after != null);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var aCreated = this.categoryGateway.create(aCategory);
+        this.searchIndex.put(aCreated);
+        return aCreated;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.categoryGateway.createAll(categories);
+        created.forEach(this.searchIndex::put);
+        return created;
+    }
+
+    @Override
+    public int deleteById(final CategoryID anId) {
+        final var deleted = this.categoryGateway.deleteById(anId);
+        this.searchIndex.remove(anId);
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllByIds(final Collection<CategoryID> anIds) {
+        final var deleted = this.categoryGateway.deleteAllByIds(anIds);
+        anIds.forEach(this.searchIndex::remove);
+        return deleted;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.categoryGateway.findById(anId);
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryID anId) {
+        return this.categoryGateway.findVersionById(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> anIds) {
+        return this.categoryGateway.findAllByIds(anIds);
+    }
+
+    @Override
+    public Optional<Category> findByIdForUpdate(final CategoryID anId) {
+        return this.categoryGateway.findByIdForUpdate(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIdsForUpdate(final Collection<CategoryID> anIds) {
+        return this.categoryGateway.findAllByIdsForUpdate(anIds);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var anUpdated = this.categoryGateway.update(aCategory);
+        this.searchIndex.put(anUpdated);
+        return anUpdated;
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        final var updated = this.categoryGateway.updateAll(categories);
+        updated.forEach(this.searchIndex::put);
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        if (aQuery.terms() == null || aQuery.terms().isBlank()) {
+            return this.categoryGateway.findAll(aQuery);
+        }
+
+        return this.searchIndex.search(aQuery)
+                .orElseGet(() -> this.categoryGateway.findAll(aQuery));
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        this.categoryGateway.streamAll(aConsumer);
+    }
+}
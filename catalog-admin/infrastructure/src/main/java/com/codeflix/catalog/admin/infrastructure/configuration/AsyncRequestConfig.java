@@ -0,0 +1,22 @@
+package com.codeflix.catalog.admin.infrastructure.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.codeflix.catalog.admin.infrastructure.configuration.web.AsyncRequestTimeout;
+
+@Configuration
+public class AsyncRequestConfig {
+
+    @Bean
+    public WebMvcConfigurer asyncRequestTimeoutConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(new AsyncRequestTimeout());
+            }
+        };
+    }
+}
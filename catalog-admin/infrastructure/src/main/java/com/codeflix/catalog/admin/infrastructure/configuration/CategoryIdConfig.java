@@ -0,0 +1,17 @@
+package com.codeflix.catalog.admin.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
+
+@Configuration
+public class CategoryIdConfig {
+
+    @Bean
+    public CategoryIdGenerator categoryIdGenerator(
+            @Value("${category.id.time-ordered:false}") final boolean timeOrdered) {
+        return CategoryIdGenerator.timeOrdered(timeOrdered);
+    }
+}
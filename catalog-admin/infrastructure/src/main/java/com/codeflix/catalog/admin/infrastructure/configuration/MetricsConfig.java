@@ -0,0 +1,23 @@
+package com.codeflix.catalog.admin.infrastructure.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.codeflix.catalog.admin.infrastructure.configuration.metrics.UndertowWorkerMetrics;
+import com.codeflix.catalog.admin.infrastructure.configuration.metrics.UseCaseMetricsAspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public UseCaseMetricsAspect useCaseMetricsAspect(final MeterRegistry meterRegistry) {
+        return new UseCaseMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public UndertowWorkerMetrics undertowWorkerMetrics(final MeterRegistry meterRegistry) {
+        return new UndertowWorkerMetrics(meterRegistry);
+    }
+}
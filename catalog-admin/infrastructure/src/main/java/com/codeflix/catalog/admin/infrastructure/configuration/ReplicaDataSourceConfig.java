@@ -0,0 +1,68 @@
+package com.codeflix.catalog.admin.infrastructure.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.codeflix.catalog.admin.infrastructure.configuration.datasource.ReadWriteRoutingDataSource;
+import com.codeflix.catalog.admin.infrastructure.configuration.datasource.ReplicaHealthMonitor;
+import com.codeflix.catalog.admin.infrastructure.configuration.datasource.ReplicationLag;
+import com.codeflix.catalog.admin.infrastructure.configuration.properties.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            final DataSourceProperties properties,
+            final ReplicaDataSourceProperties replicaProperties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(replicaProperties.getUrl())
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword())
+                .build();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") final HikariDataSource replicaDataSource,
+            final ReplicaDataSourceProperties replicaProperties) {
+        return new ReplicaHealthMonitor(
+                replicaDataSource,
+                ReplicationLag.mysql(replicaProperties.isAllowNonReplica()),
+                replicaProperties.getMaxLag(),
+                replicaProperties.getHealthCheckInterval());
+    }
+
+    // the routing decision needs the transaction's read-only flag, which is only set after the transaction
+    // manager asks for a connection, so the physical connection is fetched lazily on the first statement
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") final HikariDataSource replicaDataSource,
+            final ReplicaHealthMonitor replicaHealthMonitor,
+            final MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaHealthMonitor::isAvailable, meterRegistry));
+    }
+}
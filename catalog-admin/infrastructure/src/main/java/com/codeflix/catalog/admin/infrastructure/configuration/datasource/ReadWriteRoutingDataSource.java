@@ -0,0 +1,88 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    public static final String FALLBACK_METRIC = "datasource.replica.fallbacks";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final BooleanSupplier replicaAvailable;
+    private final MeterRegistry meterRegistry;
+
+    public ReadWriteRoutingDataSource(
+            final DataSource primaryDataSource,
+            final DataSource replicaDataSource,
+            final BooleanSupplier replicaAvailable,
+            final MeterRegistry meterRegistry) {
+        this.primaryDataSource = Objects.requireNonNull(primaryDataSource);
+        this.replicaDataSource = Objects.requireNonNull(replicaDataSource);
+        this.replicaAvailable = Objects.requireNonNull(replicaAvailable);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return connect(aDataSource -> aDataSource.getConnection(username, password));
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && this.replicaAvailable.getAsBoolean()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+
+    private Connection connect(final ConnectionFactory aFactory) throws SQLException {
+        if (determineCurrentLookupKey() == Route.REPLICA) {
+            try {
+                return aFactory.connect(this.replicaDataSource);
+            } catch (final SQLException ex) {
+                // replica pool timed out or the replica went away since the last health check, the primary can serve it
+                LOG.warn("Replica connection failed, falling back to the primary: {}", ex.getMessage());
+                Counter.builder(FALLBACK_METRIC)
+                        .tag("exception", ex.getClass().getSimpleName())
+                        .register(this.meterRegistry)
+                        .increment();
+            }
+        }
+
+        return aFactory.connect(this.primaryDataSource);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection connect(DataSource aDataSource) throws SQLException;
+    }
+}
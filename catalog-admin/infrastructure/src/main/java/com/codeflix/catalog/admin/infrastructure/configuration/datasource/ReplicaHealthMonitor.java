@@ -0,0 +1,81 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+public class ReplicaHealthMonitor {
+
+    private final HikariDataSource replicaDataSource;
+    private final ReplicationLag replicationLag;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+
+    private volatile boolean healthy;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaHealthMonitor(
+            final HikariDataSource replicaDataSource,
+            final ReplicationLag replicationLag,
+            final Duration maxLag,
+            final Duration checkInterval) {
+        this.replicaDataSource = Objects.requireNonNull(replicaDataSource);
+        this.replicationLag = Objects.requireNonNull(replicationLag);
+        this.maxLag = Objects.requireNonNull(maxLag);
+        this.checkInterval = Objects.requireNonNull(checkInterval);
+    }
+
+    public void start() {
+        check();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(aTask -> {
+            final var aThread = new Thread(aTask, "replica-health");
+            aThread.setDaemon(true);
+            return aThread;
+        });
+        this.scheduler.scheduleWithFixedDelay(
+                this::check, this.checkInterval.toMillis(), this.checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    public void check() {
+        // a busy pool says nothing about replication, keep the last verdict instead of queueing for a connection
+        if (isExhausted()) {
+            return;
+        }
+
+        try (final var aConnection = this.replicaDataSource.getConnection()) {
+            this.healthy = this.replicationLag.measure(aConnection)
+                    .filter(lag -> lag.compareTo(this.maxLag) <= 0)
+                    .isPresent();
+        } catch (final SQLException | RuntimeException ex) {
+            this.healthy = false;
+        }
+    }
+
+    public boolean isHealthy() {
+        return this.healthy;
+    }
+
+    public boolean isAvailable() {
+        return this.healthy && !isExhausted();
+    }
+
+    private boolean isExhausted() {
+        final var aPool = this.replicaDataSource.getHikariPoolMXBean();
+
+        return aPool != null
+                && aPool.getIdleConnections() == 0
+                && aPool.getActiveConnections() >= this.replicaDataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,30 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+@FunctionalInterface
+public interface ReplicationLag {
+
+    ReplicationLag MYSQL = mysql(false);
+
+    Optional<Duration> measure(Connection aConnection) throws SQLException;
+
+    // an empty lag means replication is stopped or broken; no status rows means the server is not (or no longer)
+    // a replica, e.g. after RESET REPLICA ALL, which only counts as healthy when pointed at the primary on purpose
+    static ReplicationLag mysql(final boolean allowNonReplica) {
+        return aConnection -> {
+            try (final var aStatement = aConnection.createStatement();
+                 final var rs = aStatement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    return allowNonReplica ? Optional.of(Duration.ZERO) : Optional.empty();
+                }
+
+                final var seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? Optional.empty() : Optional.of(Duration.ofSeconds(seconds));
+            }
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.dialect;
+
+import org.hibernate.dialect.MySQL5InnoDBDialect;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+public class MySQLFullTextDialect extends MySQL5InnoDBDialect {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    public MySQLFullTextDialect() {
+        super();
+        registerFunction(MATCH_AGAINST, new SQLFunctionTemplate(
+                StandardBasicTypes.DOUBLE, "MATCH (?1, ?2) AGAINST (?3 IN BOOLEAN MODE)"));
+    }
+}
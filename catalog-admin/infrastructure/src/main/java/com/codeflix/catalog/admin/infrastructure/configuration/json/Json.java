@@ -1,9 +1,11 @@
 package com.codeflix.catalog.admin.infrastructure.configuration.json;
 
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
@@ -20,24 +22,35 @@ public enum Json {
         return INSTANCE.mapper.copy();
     }
 
+    // the shared dates, features, naming and value modules, without the property accessor module
+    public static Jackson2ObjectMapperBuilder builder() {
+        return new Jackson2ObjectMapperBuilder()
+                .dateFormat(new StdDateFormat())
+                .featuresToDisable(
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+                        DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
+                        DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
+                        SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modules(new JavaTimeModule(), new Jdk8Module())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+
     public static String writeValueAsString(final Object obj) {
         return invoke(() -> INSTANCE.mapper.writeValueAsString(obj));
     }
 
+    // one document per line: no separator between root values and the caller's stream is left open
+    public static JsonGenerator generator(final OutputStream out) {
+        return invoke(() -> INSTANCE.mapper.getFactory().createGenerator(out)
+                .setRootValueSeparator(null)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+    }
+
     public static <T> T readValueAsT(final String json, final Class<T> clazz) {
         return invoke(() -> INSTANCE.mapper.readValue(json, clazz));
     }
 
-    private final ObjectMapper mapper = new Jackson2ObjectMapperBuilder()
-            .dateFormat(new StdDateFormat())
-            .featuresToDisable(
-                    DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
-                    DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES,
-                    DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES,
-                    SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-            .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
-            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-            .build();
+    private final ObjectMapper mapper = builder().build().registerModule(afterburnerModule());
 
     private AfterburnerModule afterburnerModule() {
         var module = new AfterburnerModule();
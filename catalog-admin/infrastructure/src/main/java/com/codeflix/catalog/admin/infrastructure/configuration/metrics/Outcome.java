@@ -0,0 +1,56 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.metrics;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+import io.vavr.control.Either;
+
+public enum Outcome {
+    SUCCESS,
+    INVALID,
+    NOT_FOUND,
+    CONFLICT,
+    REJECTED,
+    ERROR;
+
+    private final String tagValue = name().toLowerCase();
+
+    public static Outcome of(final Object aResult) {
+        return aResult instanceof Either<?, ?> anEither && anEither.isLeft() ? INVALID : SUCCESS;
+    }
+
+    public static Outcome of(final Throwable anError) {
+        final var aCause = unwrap(anError);
+
+        if (aCause instanceof NotFoundException) {
+            return NOT_FOUND;
+        }
+        if (aCause instanceof ConflictException) {
+            return CONFLICT;
+        }
+        if (aCause instanceof DomainException) {
+            return INVALID;
+        }
+        if (aCause instanceof RejectedExecutionException) {
+            return REJECTED;
+        }
+        return ERROR;
+    }
+
+    public static Throwable unwrap(final Throwable anError) {
+        if ((anError instanceof CompletionException || anError instanceof ExecutionException)
+                && anError.getCause() != null) {
+            return anError.getCause();
+        }
+        return anError;
+    }
+
+    public String tagValue() {
+        return this.tagValue;
+    }
+}
@@ -0,0 +1,101 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+// Times a call and tags it with how it ended; anything but a success also counts towards '<name>.errors'.
+public class OutcomeTimer {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final String name;
+    private final Tags tags;
+    private final Timer success;
+    private final Timer invalid;
+    private final Counter invalidErrors;
+
+    private OutcomeTimer(final MeterRegistry meterRegistry, final String name, final Tags tags) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.name = Objects.requireNonNull(name);
+        this.tags = Objects.requireNonNull(tags);
+        this.success = timer(Outcome.SUCCESS, NO_EXCEPTION);
+        this.invalid = timer(Outcome.INVALID, NO_EXCEPTION);
+        this.invalidErrors = errors(Outcome.INVALID, NO_EXCEPTION);
+    }
+
+    public static OutcomeTimer create(final MeterRegistry meterRegistry, final String name, final Tags tags) {
+        return new OutcomeTimer(meterRegistry, name, tags);
+    }
+
+    public <T, E extends Throwable> T record(final Call<T, E> aCall) throws E {
+        final var aSample = Timer.start(this.meterRegistry);
+        final T aResult;
+
+        try {
+            aResult = aCall.call();
+        } catch (final Throwable ex) {
+            stop(aSample, ex);
+            throw ex;
+        }
+
+        // async use cases hand back a stage right away, the time that matters is until it completes
+        if (aResult instanceof CompletionStage<?> aStage) {
+            aStage.whenComplete((aValue, anError) -> {
+                if (anError != null) {
+                    stop(aSample, anError);
+                } else {
+                    stop(aSample, aValue);
+                }
+            });
+        } else {
+            stop(aSample, aResult);
+        }
+
+        return aResult;
+    }
+
+    private void stop(final Timer.Sample aSample, final Object aResult) {
+        if (Outcome.of(aResult) == Outcome.SUCCESS) {
+            aSample.stop(this.success);
+        } else {
+            aSample.stop(this.invalid);
+            this.invalidErrors.increment();
+        }
+    }
+
+    private void stop(final Timer.Sample aSample, final Throwable anError) {
+        final var anOutcome = Outcome.of(anError);
+        final var anException = Outcome.unwrap(anError).getClass().getSimpleName();
+
+        aSample.stop(timer(anOutcome, anException));
+        errors(anOutcome, anException).increment();
+    }
+
+    private Timer timer(final Outcome anOutcome, final String anException) {
+        return Timer.builder(this.name)
+                .tags(this.tags)
+                .tag("outcome", anOutcome.tagValue())
+                .tag("exception", anException)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private Counter errors(final Outcome anOutcome, final String anException) {
+        return Counter.builder(this.name + ".errors")
+                .tags(this.tags)
+                .tag("outcome", anOutcome.tagValue())
+                .tag("exception", anException)
+                .register(this.meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface Call<T, E extends Throwable> {
+        T call() throws E;
+    }
+}
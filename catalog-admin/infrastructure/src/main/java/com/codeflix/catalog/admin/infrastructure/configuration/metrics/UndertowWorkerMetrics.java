@@ -0,0 +1,79 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.xnio.management.XnioWorkerMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+// Boot keeps the Undertow instance to itself, but every XNIO worker registers an MXBean once the server is up.
+public class UndertowWorkerMetrics implements ApplicationListener<WebServerInitializedEvent> {
+
+    public static final String METRIC_PREFIX = "undertow.worker";
+    public static final String STATISTICS_PROPERTY = "jboss.threads.eqe.statistics";
+
+    private static final String WORKERS = "org.xnio:type=Xnio,provider=*,worker=*";
+
+    private final MeterRegistry meterRegistry;
+    private final MBeanServer mBeanServer;
+
+    public UndertowWorkerMetrics(final MeterRegistry meterRegistry) {
+        this(meterRegistry, ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public UndertowWorkerMetrics(final MeterRegistry meterRegistry, final MBeanServer mBeanServer) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.mBeanServer = Objects.requireNonNull(mBeanServer);
+    }
+
+    @Override
+    public void onApplicationEvent(final WebServerInitializedEvent anEvent) {
+        bind();
+    }
+
+    public void bind() {
+        for (final var aName : this.mBeanServer.queryNames(workers(), null)) {
+            final var aWorker = JMX.newMXBeanProxy(this.mBeanServer, aName, XnioWorkerMXBean.class);
+            final var tags = Tags.of("worker", aWorker.getName());
+
+            // reads -1 unless the pool keeps statistics, see STATISTICS_PROPERTY
+            gauge("threads.busy", aWorker, XnioWorkerMXBean::getBusyWorkerThreadCount, tags);
+            gauge("threads.size", aWorker, XnioWorkerMXBean::getWorkerPoolSize, tags);
+            gauge("threads.core", aWorker, XnioWorkerMXBean::getCoreWorkerPoolSize, tags);
+            gauge("threads.max", aWorker, XnioWorkerMXBean::getMaxWorkerPoolSize, tags);
+            gauge("queue.size", aWorker, XnioWorkerMXBean::getWorkerQueueSize, tags);
+            gauge("io.threads", aWorker, XnioWorkerMXBean::getIoThreadCount, tags);
+        }
+    }
+
+    // the proxy is the gauge's only reference to the worker, a weak one would let it be collected
+    private void gauge(
+            final String aName,
+            final XnioWorkerMXBean aWorker,
+            final ToDoubleFunction<XnioWorkerMXBean> aValue,
+            final Tags tags) {
+        Gauge.builder(METRIC_PREFIX + "." + aName, aWorker, aValue)
+                .tags(tags)
+                .strongReference(true)
+                .register(this.meterRegistry);
+    }
+
+    private static ObjectName workers() {
+        try {
+            return new ObjectName(WORKERS);
+        } catch (final MalformedObjectNameException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+// The use cases are abstract classes with no common composition point, so they are advised instead of decorated.
+@Aspect
+public class UseCaseMetricsAspect {
+
+    public static final String METRIC_NAME = "categories.usecase";
+
+    private static final String DEFAULT_PREFIX = "Default";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, OutcomeTimer> timers = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    @Around("execution(* com.codeflix.catalog.admin.application..Default*UseCase.execute(..))")
+    public Object timed(final ProceedingJoinPoint aJoinPoint) throws Throwable {
+        return this.timers.computeIfAbsent(aJoinPoint.getTarget().getClass(), this::timer)
+                .record(aJoinPoint::proceed);
+    }
+
+    private OutcomeTimer timer(final Class<?> aUseCase) {
+        final var aName = aUseCase.getSimpleName();
+        final var aTag = aName.startsWith(DEFAULT_PREFIX) ? aName.substring(DEFAULT_PREFIX.length()) : aName;
+
+        return OutcomeTimer.create(this.meterRegistry, METRIC_NAME, Tags.of("usecase", aTag));
+    }
+}
@@ -0,0 +1,44 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.threads;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// The build targets JDK 17, so the JDK 21 factory is looked up at runtime instead of being linked at compile time.
+public final class VirtualThreads {
+
+    private static final Optional<MethodHandle> NEW_EXECUTOR = lookup();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return NEW_EXECUTOR.isPresent();
+    }
+
+    public static ExecutorService newExecutor() {
+        final var aFactory = NEW_EXECUTOR.orElseThrow(() -> new IllegalStateException(
+                "virtual threads require JDK 21 or newer, running on %s".formatted(Runtime.version())));
+
+        try {
+            return (ExecutorService) aFactory.invokeExact();
+        } catch (final Throwable t) {
+            throw new IllegalStateException("could not create a virtual thread executor", t);
+        }
+    }
+
+    private static Optional<MethodHandle> lookup() {
+        try {
+            final var aFactory = MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+            return Optional.of(aFactory);
+        } catch (final NoSuchMethodException | IllegalAccessException ex) {
+            return Optional.empty();
+        }
+    }
+}
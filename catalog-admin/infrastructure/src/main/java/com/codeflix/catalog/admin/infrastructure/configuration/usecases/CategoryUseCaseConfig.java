@@ -1,32 +1,110 @@
 package com.codeflix.catalog.admin.infrastructure.configuration.usecases;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.codeflix.catalog.admin.application.category.create.CreateCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.create.DefaultCreateCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.create.DefaultCreateCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.delete.DeleteCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
 import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoryVersionUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryVersionUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.list.DefaultAsyncListCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.update.DefaultUpdateCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.update.DefaultUpdateCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.update.UpdateCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
+import com.codeflix.catalog.admin.infrastructure.category.async.CategoryAsyncGateway;
+import com.codeflix.catalog.admin.infrastructure.category.bulkhead.CategoryBulkheadGateway;
+import com.codeflix.catalog.admin.infrastructure.category.cache.CategoryCacheGateway;
+import com.codeflix.catalog.admin.infrastructure.category.cache.CategoryNegativeCacheGateway;
+import com.codeflix.catalog.admin.infrastructure.category.coalescing.CategorySingleFlightGateway;
+import com.codeflix.catalog.admin.infrastructure.category.importer.CategoryImporter;
+import com.codeflix.catalog.admin.infrastructure.category.metrics.CategoryMetricsGateway;
+import com.codeflix.catalog.admin.infrastructure.category.search.CategorySearchIndexGateway;
+import com.codeflix.catalog.admin.infrastructure.configuration.properties.CategoryCacheProperties;
+import com.codeflix.catalog.admin.infrastructure.configuration.properties.VirtualThreadProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final CategoryIdGenerator categoryIdGenerator;
+
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final CategoryIdGenerator categoryIdGenerator,
+            final CategoryCacheProperties cacheProperties,
+            final VirtualThreadProperties virtualThreadProperties,
+            final MeterRegistry meterRegistry,
+            @Value("${category.listing.in-memory-index.enabled:false}") final boolean inMemoryIndex,
+            @Value("${category.single-flight.enabled:false}") final boolean singleFlight) {
+        // innermost, so the timings are the database's and not the bulkhead wait or the caches
+        CategoryGateway aGateway = CategoryMetricsGateway.create(categoryGateway, meterRegistry);
+
+        if (virtualThreadProperties.isEnabled()) {
+            aGateway = CategoryBulkheadGateway.create(
+                    aGateway,
+                    virtualThreadProperties.getMaxConcurrentQueries(),
+                    virtualThreadProperties.getMaxConcurrentExports(),
+                    meterRegistry);
+        }
+
+        if (inMemoryIndex) {
+            aGateway = CategorySearchIndexGateway.load(aGateway);
+        }
+
+        if (cacheProperties.getNegative().isEnabled()) {
+            aGateway = CategoryNegativeCacheGateway.create(aGateway, cacheProperties.getNegative(), meterRegistry);
+        }
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+        if (singleFlight) {
+            aGateway = new CategorySingleFlightGateway(aGateway);
+        }
+
+        if (cacheProperties.isEnabled()) {
+            aGateway = CategoryCacheGateway.create(aGateway, cacheProperties, meterRegistry);
+        }
+
+        this.categoryGateway = aGateway;
+        this.categoryIdGenerator = categoryIdGenerator;
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(categoryGateway);
+        return new DefaultCreateCategoryUseCase(categoryGateway, categoryIdGenerator);
+    }
+
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(categoryGateway, categoryIdGenerator);
+    }
+
+    @Bean
+    public CategoryImporter categoryImporter(
+            final CreateCategoriesUseCase createCategoriesUseCase,
+            @Value("${category.import.batch-size:500}") final int batchSize) {
+        return new CategoryImporter(createCategoriesUseCase, batchSize);
     }
 
     @Bean
@@ -34,18 +112,61 @@ public class CategoryUseCaseConfig {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public UpdateCategoriesUseCase updateCategoriesUseCase() {
+        return new DefaultUpdateCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoryVersionUseCase getCategoryVersionUseCase() {
+        return new DefaultGetCategoryVersionUseCase(categoryGateway);
+    }
+
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public CategoryAsyncGateway categoryAsyncGateway(
+            final MeterRegistry meterRegistry,
+            @Value("${category.async.threads:20}") final int threads,
+            @Value("${category.async.queue-capacity:1000}") final int queueCapacity) {
+        return CategoryAsyncGateway.create(categoryGateway, threads, queueCapacity, meterRegistry);
+    }
+
+    @Bean
+    public AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase(final CategoryAsyncGateway categoryAsyncGateway) {
+        return new DefaultAsyncGetCategoryByIdUseCase(categoryAsyncGateway);
+    }
+
+    @Bean
+    public AsyncListCategoriesUseCase asyncListCategoriesUseCase(final CategoryAsyncGateway categoryAsyncGateway) {
+        return new DefaultAsyncListCategoriesUseCase(categoryAsyncGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(categoryGateway);
+    }
 }
@@ -0,0 +1,29 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.web;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+// spring.mvc.async.request-timeout applies to every async request, so long streams raise the timeout for themselves.
+public class AsyncRequestTimeout implements CallableProcessingInterceptor {
+
+    private static final String ATTRIBUTE = AsyncRequestTimeout.class.getName();
+
+    public static void extend(final WebRequest aRequest, final Duration aTimeout) {
+        aRequest.setAttribute(ATTRIBUTE, aTimeout, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    // runs before the async context is started, which is the last point its timeout can still change
+    @Override
+    public <T> void beforeConcurrentHandling(final NativeWebRequest aRequest, final Callable<T> aTask) {
+        if (aRequest.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Duration aTimeout
+                && aRequest instanceof AsyncWebRequest anAsyncRequest) {
+            anAsyncRequest.setTimeout(aTimeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.codeflix.catalog.admin.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+
+public final class CursorUtils {
+
+    private CursorUtils() {
+    }
+
+    public static String encode(final String... values) {
+        final var json = Json.writeValueAsString(values);
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<String> decode(final String aCursor, final int expectedSize) {
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+            final var values = Json.readValueAsT(json, String[].class);
+
+            if (values != null && values.length == expectedSize) {
+                return Arrays.asList(values);
+            }
+        } catch (final RuntimeException ex) {
+            // falls through to the invalid cursor error below
+        }
+
+        throw DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+
+    // keyset cursors carry the sort they were built for, the last row's sort value and its id as the tie-breaker
+    public static String encodeSort(final String aSort, final Object aValue, final String anId) {
+        return encode(aSort, aValue != null ? aValue.toString() : null, anId);
+    }
+
+    public static SortCursor decodeSort(final String aCursor, final String aSort) {
+        final var cursor = decode(aCursor, 3);
+
+        if (!cursor.get(0).equals(aSort)) {
+            throw DomainException.with(new Error("'after' cursor does not match sort '%s'".formatted(aSort)));
+        }
+
+        return new SortCursor(cursor.get(1), cursor.get(2));
+    }
+
+    public record SortCursor(String value, String id) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.codeflix.catalog.admin.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+public final class ETagUtils {
+
+    // a version that no row ever has, so an If-Match that can not name a version fails its precondition
+    public static final long UNMATCHED_VERSION = -1L;
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+    private static final int DIGEST_LENGTH = 16;
+
+    private ETagUtils() {
+    }
+
+    public static String of(final long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String of(final Iterable<String> parts) {
+        final MessageDigest aDigest;
+        try {
+            aDigest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+
+        for (final var aPart : parts) {
+            aDigest.update(String.valueOf(aPart).getBytes(StandardCharsets.UTF_8));
+            aDigest.update((byte) '\n');
+        }
+
+        final var aHash = Arrays.copyOf(aDigest.digest(), DIGEST_LENGTH);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(aHash) + "\"";
+    }
+
+    public static Long expectedVersion(final String anIfMatch) {
+        if (anIfMatch == null || anIfMatch.isBlank() || ANY.equals(anIfMatch.trim())) {
+            return null;
+        }
+
+        // If-Match uses strong comparison, so weak tags and tag lists never match a single version
+        final var aTag = anIfMatch.trim();
+        if (aTag.startsWith(WEAK_PREFIX) || aTag.length() < 3 || !aTag.startsWith("\"") || !aTag.endsWith("\"")) {
+            return UNMATCHED_VERSION;
+        }
+
+        try {
+            return Long.parseLong(aTag.substring(1, aTag.length() - 1));
+        } catch (final NumberFormatException ex) {
+            return UNMATCHED_VERSION;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.codeflix.catalog.admin.infrastructure.utils;
+
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+
+public final class PaginationUtils {
+
+    private PaginationUtils() {
+    }
+
+    public static long total(
+            final TotalMode aMode,
+            final OptionalLong aKnownTotal,
+            final LongSupplier anEstimate,
+            final LongSupplier aCount) {
+        return switch (aMode != null ? aMode : TotalMode.NONE) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case ESTIMATED -> anEstimate.getAsLong();
+            case EXACT -> aKnownTotal.isPresent() ? aKnownTotal.getAsLong() : aCount.getAsLong();
+        };
+    }
+
+    // the last page of an offset listing holds every remaining row, so offset plus its size is the total without a
+    // count. An empty page past the first one only says the offset overshot, not by how much.
+    public static OptionalLong lastPageTotal(
+            final boolean hasCursor,
+            final int aPage,
+            final long anOffset,
+            final int aSize,
+            final boolean hasNext) {
+        return !hasCursor && !hasNext && (aPage == 0 || aSize > 0)
+                ? OptionalLong.of(anOffset + aSize)
+                : OptionalLong.empty();
+    }
+}
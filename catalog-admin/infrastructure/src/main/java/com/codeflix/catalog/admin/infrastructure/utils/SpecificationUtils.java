@@ -1,9 +1,29 @@
 package com.codeflix.catalog.admin.infrastructure.utils;
 
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.criteria.Path;
+
 import org.springframework.data.jpa.domain.Specification;
 
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.infrastructure.configuration.dialect.MySQLFullTextDialect;
+
 public final class SpecificationUtils {
 
+    // innodb_ft_min_token_size and INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD, the server defaults
+    private static final int FULL_TEXT_MIN_TOKEN_SIZE = 3;
+    private static final Set<String> FULL_TEXT_STOPWORDS = Set.of(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how", "i", "in",
+            "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what", "when", "where", "who",
+            "will", "with", "und", "www");
+
     private SpecificationUtils() {
     }
 
@@ -11,7 +31,97 @@ public final class SpecificationUtils {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    public static <T> Specification<T> match(
+            final String firstProp,
+            final String secondProp,
+            final String aBooleanQuery,
+            final boolean orderByRelevance) {
+        return (root, query, cb) -> {
+            final var relevance = cb.function(
+                    MySQLFullTextDialect.MATCH_AGAINST,
+                    Double.class,
+                    root.get(firstProp),
+                    root.get(secondProp),
+                    cb.literal(aBooleanQuery));
+
+            if (orderByRelevance && !Long.class.equals(query.getResultType())) {
+                query.orderBy(cb.desc(relevance), cb.asc(root.get("id")));
+            }
+
+            return cb.greaterThan(relevance, 0D);
+        };
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <T> Specification<T> after(
+            final String prop,
+            final String value,
+            final String idProp,
+            final String id,
+            final boolean ascending) {
+        return (root, query, cb) -> {
+            final Path<Comparable> key = root.get(prop);
+            final Path<String> anId = root.get(idProp);
+            final var nextId = ascending ? cb.greaterThan(anId, id) : cb.lessThan(anId, id);
+
+            // NULL sort keys come first on ascending and last on descending order (MySQL semantics)
+            if (value == null) {
+                final var sameKey = cb.and(cb.isNull(key), nextId);
+                return ascending ? cb.or(sameKey, cb.isNotNull(key)) : sameKey;
+            }
+
+            final Comparable aValue = parse(key.getJavaType(), value);
+            final var nextKey = ascending ? cb.greaterThan(key, aValue) : cb.lessThan(key, aValue);
+            final var sameKey = cb.and(cb.equal(key, aValue), nextId);
+
+            return ascending
+                    ? cb.or(nextKey, sameKey)
+                    : cb.or(nextKey, sameKey, cb.isNull(key));
+        };
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
+
+    // every remaining word is required and matched as a prefix, boolean mode operators are stripped from the input.
+    // Words InnoDB never indexes (shorter than innodb_ft_min_token_size, or stopwords) are dropped rather than
+    // required, since a required word that is not in the index matches nothing: "x-men" now means "men*".
+    public static Optional<String> booleanQuery(final String term) {
+        final var aQuery = Arrays.stream(term.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+"))
+                .filter(SpecificationUtils::isIndexed)
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+
+        return aQuery.isEmpty() ? Optional.empty() : Optional.of(aQuery);
+    }
+
+    private static boolean isIndexed(final String word) {
+        return word.length() >= FULL_TEXT_MIN_TOKEN_SIZE && !FULL_TEXT_STOPWORDS.contains(word.toLowerCase());
+    }
+
+    // binds the cursor value as the sort attribute's own type, so numbers compare as numbers instead of text
+    private static Comparable<?> parse(final Class<?> aType, final String value) {
+        final Function<String, Comparable<?>> aParser;
+        if (String.class.equals(aType)) {
+            aParser = aValue -> aValue;
+        } else if (Instant.class.equals(aType)) {
+            aParser = Instant::parse;
+        } else if (Boolean.class.equals(aType) || boolean.class.equals(aType)) {
+            aParser = Boolean::valueOf;
+        } else if (Long.class.equals(aType) || long.class.equals(aType)) {
+            aParser = Long::valueOf;
+        } else if (Integer.class.equals(aType) || int.class.equals(aType)) {
+            aParser = Integer::valueOf;
+        } else {
+            throw DomainException.with(new Error("'after' cursor can not be used when sorting by a %s"
+                    .formatted(aType.getSimpleName())));
+        }
+
+        try {
+            return aParser.apply(value);
+        } catch (final RuntimeException ex) {
+            throw DomainException.with(new Error("'after' is not a valid cursor"));
+        }
+    }
 }
@@ -0,0 +1,12 @@
+-- run by hand, flyway has no undo for repeatable migrations: then drop classpath:db/optional/binary-id from
+-- spring.flyway.locations, unset category.id.binary and delete the R__Category_binary_id row from
+-- flyway_schema_history so that opting in again converts the column again
+ALTER TABLE category ADD COLUMN id_str VARCHAR(36) NULL AFTER id;
+
+UPDATE category SET id_str = BIN_TO_UUID(id);
+
+ALTER TABLE category DROP PRIMARY KEY, DROP COLUMN id;
+
+ALTER TABLE category RENAME COLUMN id_str TO id;
+
+ALTER TABLE category MODIFY id VARCHAR(36) NOT NULL, ADD PRIMARY KEY (id);
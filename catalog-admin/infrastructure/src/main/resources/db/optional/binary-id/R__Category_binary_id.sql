@@ -0,0 +1,31 @@
+-- opt-in: add classpath:db/optional/binary-id to spring.flyway.locations and set category.id.binary
+-- repeatable on purpose: flyway applies it after the latest versioned migration whenever the location is
+-- added, so versioned migrations must not depend on the type of category.id. binary-id-revert.sql undoes it.
+SET @convert := (SELECT DATA_TYPE <> 'binary' FROM information_schema.COLUMNS
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'category' AND COLUMN_NAME = 'id');
+
+-- every step is a no-op once the column is binary, so a second run or a fresh checksum changes nothing
+SET @sql := IF(@convert, 'ALTER TABLE category ADD COLUMN id_bin BINARY(16) NULL AFTER id', 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(@convert, 'UPDATE category SET id_bin = UUID_TO_BIN(id)', 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(@convert, 'ALTER TABLE category DROP PRIMARY KEY, DROP COLUMN id', 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(@convert, 'ALTER TABLE category RENAME COLUMN id_bin TO id', 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @sql := IF(@convert, 'ALTER TABLE category MODIFY id BINARY(16) NOT NULL, ADD PRIMARY KEY (id)', 'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -11,6 +11,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.AliasFor;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.codeflix.catalog.admin.infrastructure.configuration.AsyncRequestConfig;
 import com.codeflix.catalog.admin.infrastructure.configuration.ObjectMapperConfig;
 
 @Target(ElementType.TYPE)
@@ -18,7 +19,7 @@ import com.codeflix.catalog.admin.infrastructure.configuration.ObjectMapperConfi
 @Inherited
 @ActiveProfiles("test-integration")
 @WebMvcTest
-@Import(ObjectMapperConfig.class)
+@Import({ ObjectMapperConfig.class, AsyncRequestConfig.class })
 public @interface ControllerTest {
 
     @AliasFor(annotation = WebMvcTest.class, attribute = "controllers")
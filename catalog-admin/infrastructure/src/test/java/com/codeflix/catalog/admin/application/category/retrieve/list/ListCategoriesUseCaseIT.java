@@ -15,6 +15,7 @@ import com.codeflix.catalog.admin.IntegrationTest;
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryGateway;
 import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
 import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
 
@@ -57,7 +58,7 @@ class ListCategoriesUseCaseIT {
         final var expectedTotal = 0;
 
         final var aQuery = new CategorySearchQuery(
-                expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+                expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection, null, TotalMode.EXACT);
 
         final var expectedResult = defaultListCategoriesUseCase.execute(aQuery);
 
@@ -87,7 +88,7 @@ class ListCategoriesUseCaseIT {
         final var expectedDirection = "asc";
 
         final var aQuery = new CategorySearchQuery(
-                expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+                expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection, null, TotalMode.EXACT);
 
         final var expectedResult = defaultListCategoriesUseCase.execute(aQuery);
 
@@ -116,7 +117,7 @@ class ListCategoriesUseCaseIT {
         final var expectedTerms = "";
 
         final var aQuery = new CategorySearchQuery(
-                expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+                expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection, null, TotalMode.EXACT);
 
         final var expectedResult = defaultListCategoriesUseCase.execute(aQuery);
 
@@ -145,7 +146,7 @@ class ListCategoriesUseCaseIT {
         final var expectedDirection = "asc";
 
         final var aQuery = new CategorySearchQuery(
-                expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+                expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection, null, TotalMode.EXACT);
 
         final var expectedResult = defaultListCategoriesUseCase.execute(aQuery);
 
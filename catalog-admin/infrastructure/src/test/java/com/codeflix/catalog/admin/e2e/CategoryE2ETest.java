@@ -297,6 +297,7 @@ public class CategoryE2ETest {
                 .queryParam("search", search)
                 .queryParam("sort", sort)
                 .queryParam("dir", directions)
+                .queryParam("total", "exact")
                 .contentType(MediaType.APPLICATION_JSON);
 
         return this.mvc.perform(aRequest);
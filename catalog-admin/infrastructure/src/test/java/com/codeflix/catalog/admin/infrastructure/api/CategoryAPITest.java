@@ -4,6 +4,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import org.hamcrest.Matchers;
 
@@ -11,48 +12,75 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.web.util.NestedServletException;
 
 import com.codeflix.catalog.admin.ControllerTest;
+import com.codeflix.catalog.admin.application.category.create.CreateCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
 import com.codeflix.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.codeflix.catalog.admin.application.category.create.CreateCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.delete.DeleteCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryVersionOutput;
+import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.codeflix.catalog.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.update.UpdateCategoriesUseCase;
 import com.codeflix.catalog.admin.application.category.update.UpdateCategoryCommand;
 import com.codeflix.catalog.admin.application.category.update.UpdateCategoryOutput;
 import com.codeflix.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
 import com.codeflix.catalog.admin.domain.exceptions.DomainException;
 import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import com.codeflix.catalog.admin.domain.exceptions.PreconditionFailedException;
 import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
 import com.codeflix.catalog.admin.domain.validation.handler.Notification;
 import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.infrastructure.category.importer.CategoryImporter;
+import com.codeflix.catalog.admin.infrastructure.category.models.BatchGetCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkCreateCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkDeleteCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkUpdateCategoriesRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.BulkUpdateCategoryRequest;
 import com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.codeflix.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -60,6 +88,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.control.Either;
 
 @ControllerTest(controllers = CategoryAPI.class)
+@Import(CategoryAPITest.ImporterConfig.class)
 public class CategoryAPITest {
 
     @Autowired
@@ -80,6 +109,9 @@ public class CategoryAPITest {
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoryVersionUseCase getCategoryVersionUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
@@ -89,6 +121,21 @@ public class CategoryAPITest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
+    @MockBean
+    private UpdateCategoriesUseCase updateCategoriesUseCase;
+
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateCategory_thenShouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -218,9 +265,196 @@ public class CategoryAPITest {
                 .andExpect(jsonPath("$.is_active", equalTo(expectedIsActive)))
                 .andExpect(jsonPath("$.created_at", equalTo(aCategory.getCreatedAt().toString())))
                 .andExpect(jsonPath("$.updated_at", equalTo(aCategory.getUpdatedAt().toString())))
-                .andExpect(jsonPath("$.deleted_at", equalTo(aCategory.getDeletedAt())));
+                .andExpect(jsonPath("$.deleted_at", equalTo(aCategory.getDeletedAt())))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
 
         verify(getCategoryByIdUseCase, times(1)).execute(expectedId);
+        verify(getCategoryVersionUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAMatchingIfNoneMatch_whenCallsGetCategory_thenReturnNotModifiedWithoutLoadingTheCategory() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(new CategoryVersionOutput(aCategory.getId(), 2L, aCategory.getUpdatedAt()));
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2\"");
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(content().string(""));
+
+        verify(getCategoryVersionUseCase, times(1)).execute(expectedId);
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAStaleIfNoneMatch_whenCallsGetCategory_thenReturnCategory() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(new CategoryVersionOutput(aCategory.getId(), 0L, aCategory.getUpdatedAt()));
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1\"");
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+    }
+
+    @Test
+    void givenAnIfModifiedSinceAfterTheLastUpdate_whenCallsGetCategory_thenReturnNotModified() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(new CategoryVersionOutput(aCategory.getId(), 0L, aCategory.getUpdatedAt()));
+
+        // when
+        final var request = get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, aCategory.getUpdatedAt().plusSeconds(60).toEpochMilli());
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isNotModified());
+
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenCategories_whenCallsExportCategories_thenShouldStreamOneJsonDocumentPerLine() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", null, false);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryOutput> aConsumer = invocation.getArgument(0);
+            aConsumer.accept(CategoryOutput.from(filmes));
+            aConsumer.accept(CategoryOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var asyncResult = this.mvc.perform(get("/categories/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult)).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        final var lines = response.andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(filmes.getId().getValue(), mapper.readTree(lines[0]).get("id").asText());
+        assertEquals(filmes.getDescription(), mapper.readTree(lines[0]).get("description").asText());
+        assertEquals(series.getId().getValue(), mapper.readTree(lines[1]).get("id").asText());
+        assertEquals(series.isActive(), mapper.readTree(lines[1]).get("is_active").asBoolean());
+
+        verify(exportCategoriesUseCase, times(1)).execute(any());
+        assertEquals(600_000L, asyncResult.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void givenAFailureMidStream_whenCallsExportCategories_thenShouldEndWithAnErrorLine() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryOutput> aConsumer = invocation.getArgument(0);
+            aConsumer.accept(CategoryOutput.from(filmes));
+            throw new IllegalStateException("Gateway error");
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var asyncResult = this.mvc.perform(get("/categories/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        final var anError = assertThrows(NestedServletException.class, () -> this.mvc.perform(asyncDispatch(asyncResult)));
+        final var lines = asyncResult.getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(filmes.getId().getValue(), mapper.readTree(lines[0]).get("id").asText());
+        assertEquals("export failed", mapper.readTree(lines[1]).get("error").asText());
+        assertEquals(1, mapper.readTree(lines[1]).get("exported").asInt());
+        assertEquals("Gateway error", anError.getCause().getMessage());
+    }
+
+    @Test
+    void givenACsvBody_whenCallsImportCategories_thenShouldStreamErrorsAndProgress() throws Exception {
+        // given
+        final var csv = """
+                name,description,is_active
+                Filmes,A categoria mais assistida,true
+                Series,,maybe
+                """;
+
+        when(createCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(Either.right(CreateCategoryOutput.from("123"))));
+
+        // when
+        final var asyncResult = this.mvc.perform(post("/categories/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult)).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        final var lines = response.andReturn().getResponse().getContentAsString().split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(3, mapper.readTree(lines[0]).get("line").asInt());
+        assertEquals("'is_active' must be true or false",
+                mapper.readTree(lines[0]).get("errors").get(0).get("message").asText());
+        assertEquals(2, mapper.readTree(lines[1]).get("processed").asInt());
+        assertEquals(1, mapper.readTree(lines[1]).get("imported").asInt());
+        assertEquals(1, mapper.readTree(lines[1]).get("failed").asInt());
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(commands -> commands.size() == 1
+                && "Filmes".equals(commands.get(0).name())));
+    }
+
+    @Test
+    void givenAnUnsupportedContentType_whenCallsImportCategories_thenShouldReturnUnsupportedMediaType() throws Exception {
+        // when
+        final var response = this.mvc.perform(post("/categories/import")
+                        .contentType(MediaType.APPLICATION_XML)
+                        .content("<categories/>"))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnsupportedMediaType());
+
+        verify(createCategoriesUseCase, times(0)).execute(any());
     }
 
     @Test
@@ -242,6 +476,52 @@ public class CategoryAPITest {
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    void givenValidIds_whenCallsBatchGetCategories_thenShouldReturnCategories() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var expectedIds = List.of(filmes.getId().getValue(), "123", series.getId().getValue());
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)));
+
+        // when
+        final var request = post("/categories/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new BatchGetCategoriesRequest(expectedIds)));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(filmes.getId().getValue())))
+                .andExpect(jsonPath("$[1].id", equalTo(series.getId().getValue())));
+
+        verify(getCategoriesByIdsUseCase, times(1)).execute(expectedIds);
+    }
+
+    @Test
+    void givenTooManyIds_whenCallsBatchGetCategories_thenShouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'ids' must have at most 500 elements";
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var request = post("/categories/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new BatchGetCategoriesRequest(List.of("123"))));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     void givenAValidCommand_whenCallsUpdateCategory_thenShouldReturnCategoryId() throws Exception {
         // given
@@ -254,7 +534,7 @@ public class CategoryAPITest {
                 expectedName, expectedDescription, expectedIsActive);
 
         when(updateCategoryUseCase.execute(any()))
-                .thenReturn(Either.right(UpdateCategoryOutput.from(expectedId)));
+                .thenReturn(Either.right(new UpdateCategoryOutput(expectedId, 1L)));
 
         // when
         final var request = put("/categories/{id}", expectedId)
@@ -279,6 +559,77 @@ public class CategoryAPITest {
         assertEquals(expectedIsActive, updateCategoryCommand.isActive());
     }
 
+    @Test
+    void givenAnIfMatchHeader_whenCallsUpdateCategory_thenShouldPassExpectedVersionAndReturnNewETag() throws Exception {
+        // given
+        final var expectedId = "123";
+        final var anInput = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(Either.right(new UpdateCategoryOutput(expectedId, 4L)));
+
+        // when
+        final var request = put("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        verify(updateCategoryUseCase, times(1)).execute(updateCategoryCaptor.capture());
+
+        assertEquals(3L, updateCategoryCaptor.getValue().expectedVersion());
+    }
+
+    @Test
+    void givenAStaleIfMatchHeader_whenCallsUpdateCategory_thenReturnPreconditionFailed() throws Exception {
+        // given
+        final var expectedId = "123";
+        final var expectedErrorMessage = "Category with ID 123 is no longer at the expected version";
+        final var anInput = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(PreconditionFailedException.with(Category.class, CategoryID.from(expectedId)));
+
+        // when
+        final var request = put("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenNoIfMatchHeader_whenUpdateKeepsLosingTheRace_thenReturnConflict() throws Exception {
+        // given
+        final var expectedId = "123";
+        final var expectedErrorMessage = "Category with ID 123 was changed by another request";
+        final var anInput = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, CategoryID.from(expectedId)));
+
+        // when
+        final var request = put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     void givenACommandWithInvalidId_whenCallsUpdateCategory_thenReturnNotFoundException() throws Exception {
         // given
@@ -336,6 +687,85 @@ public class CategoryAPITest {
                 .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    void givenValidAndInvalidItems_whenCallsBulkCreateCategories_thenReturnOneResultPerItem() throws Exception {
+        // given
+        final var expectedMessage = "'name' should not be null";
+        final var anInput = new BulkCreateCategoriesRequest(List.of(
+                new CreateCategoryRequest("Filmes", null, null),
+                new CreateCategoryRequest(null, null, true)));
+
+        when(createCategoriesUseCase.execute(any())).thenReturn(List.of(
+                Either.right(CreateCategoryOutput.from("123")),
+                Either.left(Notification.create(new Error(expectedMessage)))));
+
+        // when
+        final var request = post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[0].errors", hasSize(0)))
+                .andExpect(jsonPath("$[1].id", nullValue()))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedMessage)));
+
+        verify(createCategoriesUseCase, times(1)).execute(argThat(cmds -> cmds.size() == 2
+                && cmds.get(0).isActive()
+                && Objects.equals("Filmes", cmds.get(0).name())));
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsBulkUpdateCategories_thenReturnItsErrorWithId() throws Exception {
+        // given
+        final var expectedMessage = "Category with ID 456 was not found";
+        final var anInput = new BulkUpdateCategoriesRequest(List.of(
+                new BulkUpdateCategoryRequest("123", "Filmes", null, true),
+                new BulkUpdateCategoryRequest("456", "Series", null, false)));
+
+        when(updateCategoriesUseCase.execute(any())).thenReturn(List.of(
+                Either.right(new UpdateCategoryOutput("123", 1L)),
+                Either.left(Notification.create(new Error(expectedMessage)))));
+
+        // when
+        final var request = put("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[1].id", equalTo("456")))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedMessage)));
+    }
+
+    @Test
+    void givenIds_whenCallsBulkDeleteCategories_thenReturnNoContent() throws Exception {
+        // given
+        final var expectedIds = List.of("123", "456");
+
+        doNothing().when(deleteCategoriesUseCase).execute(any());
+
+        // when
+        final var request = post("/categories/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new BulkDeleteCategoriesRequest(expectedIds)));
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isNoContent());
+
+        verify(deleteCategoriesUseCase, times(1)).execute(expectedIds);
+    }
+
     @Test
     void givenAValidId_whenCallsDeleteCategory_thenReturnNoContent() throws Exception {
         // given
@@ -392,7 +822,8 @@ public class CategoryAPITest {
                 .andExpect(jsonPath("$.items[0].description", equalTo(aCategory.getDescription())))
                 .andExpect(jsonPath("$.items[0].is_active", equalTo(aCategory.isActive())))
                 .andExpect(jsonPath("$.items[0].created_at", equalTo(aCategory.getCreatedAt().toString())))
-                .andExpect(jsonPath("$.items[0].deleted_at", equalTo(aCategory.getDeletedAt())));
+                .andExpect(jsonPath("$.items[0].deleted_at", equalTo(aCategory.getDeletedAt())))
+                .andExpect(header().exists(HttpHeaders.ETAG));
 
         verify(listCategoriesUseCase, times(1)).execute(argThat(
                 query -> Objects.equals(expectedPage, query.page())
@@ -403,4 +834,126 @@ public class CategoryAPITest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenAnAfterCursor_whenCallsListCategories_thenReturnNextCursor() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedAfter = "eyJhZnRlciJ9";
+        final var expectedNextCursor = "eyJuZXh0In0";
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, expectedItems,
+                        expectedNextCursor));
+
+        // when
+        final var request = get("/categories")
+                .queryParam("after", expectedAfter);
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(
+                query -> Objects.equals(expectedAfter, query.after())
+                        && Objects.equals(TotalMode.NONE, query.totalMode())));
+    }
+
+    @Test
+    void givenThePageETag_whenCallsListCategories_thenReturnNotModifiedUntilAnItemChanges() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var anUpdated = Category.with(
+                aCategory.getId(), aCategory.getName(), aCategory.getDescription(), aCategory.isActive(),
+                aCategory.getCreatedAt(), aCategory.getUpdatedAt(), aCategory.getDeletedAt(), 1L);
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(aCategory))));
+
+        final var anETag = this.mvc.perform(get("/categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var notModified = this.mvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, anETag));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(anUpdated))));
+
+        final var modified = this.mvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, anETag));
+
+        // then
+        notModified.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        modified.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)));
+    }
+
+    @Test
+    void givenAnInvalidTotalMode_whenCallsListCategories_thenReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'total' must be one of none, exact or estimated";
+
+        // when
+        final var request = get("/categories")
+                .queryParam("total", "everything");
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    void givenATruncatedDescription_whenCallsListCategories_thenPassDescriptionModeToQuery() throws Exception {
+        // given
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL, List.of()));
+
+        // when
+        final var request = get("/categories")
+                .queryParam("description", "truncated");
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(
+                query -> Objects.equals(DescriptionMode.TRUNCATED, query.descriptionMode())));
+    }
+
+    @Test
+    void givenAnInvalidDescriptionMode_whenCallsListCategories_thenReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'description' must be one of full, truncated or none";
+
+        // when
+        final var request = get("/categories")
+                .queryParam("description", "short");
+
+        final var response = this.mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
+
+    // the importer runs for real on top of the mocked use case, as CategoryUseCaseConfig wires it
+    static class ImporterConfig {
+
+        @Bean
+        CategoryImporter categoryImporter(final CreateCategoriesUseCase createCategoriesUseCase) {
+            return new CategoryImporter(createCategoriesUseCase, 500);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.codeflix.catalog.admin.infrastructure.api;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.codeflix.catalog.admin.ControllerTest;
+import com.codeflix.catalog.admin.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.codeflix.catalog.admin.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.list.CategoryListOutput;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+
+@ControllerTest(controllers = CategoryAsyncAPI.class)
+public class CategoryAsyncAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase;
+
+    @MockBean
+    private AsyncListCategoriesUseCase asyncListCategoriesUseCase;
+
+    @Test
+    void givenAValidId_whenCallsGetCategory_thenShouldReturnCategory() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+
+        when(asyncGetCategoryByIdUseCase.execute(any()))
+                .thenReturn(CompletableFuture.completedFuture(CategoryOutput.from(aCategory)));
+
+        // when
+        final var asyncResult = this.mvc.perform(get("/async/categories/{id}", expectedId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult)).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.name", equalTo(aCategory.getName())))
+                .andExpect(jsonPath("$.description", equalTo(aCategory.getDescription())));
+
+        verify(asyncGetCategoryByIdUseCase, times(1)).execute(expectedId);
+        assertEquals(30_000L, asyncResult.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    void givenAInvalidId_whenCallsGetCategory_thenShouldReturnNotFound() throws Exception {
+        // given
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        when(asyncGetCategoryByIdUseCase.execute(any()))
+                .thenReturn(CompletableFuture.failedFuture(NotFoundException.with(Category.class, expectedId)));
+
+        // when
+        final var asyncResult = this.mvc.perform(get("/async/categories/{id}", expectedId.getValue()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult)).andDo(print());
+
+        // then
+        response.andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenABusyExecutor_whenCallsGetCategory_thenShouldReturnServiceUnavailable() throws Exception {
+        // given
+        when(asyncGetCategoryByIdUseCase.execute(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException()));
+
+        // when
+        final var asyncResult = this.mvc.perform(get("/async/categories/{id}", "123"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult)).andDo(print());
+
+        // then
+        response.andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void givenAValidParams_whenCallsListCategories_thenReturnCategories() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(asyncListCategoriesUseCase.execute(any()))
+                .thenReturn(CompletableFuture.completedFuture(new Pagination<>(0, 10, 1, expectedItems)));
+
+        // when
+        final var asyncResult = this.mvc.perform(get("/async/categories")
+                        .queryParam("search", "movies")
+                        .queryParam("sort", "description"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult)).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(1)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())));
+
+        verify(asyncListCategoriesUseCase, times(1)).execute(argThat(
+                query -> Objects.equals("movies", query.terms())
+                        && Objects.equals("description", query.sort())));
+    }
+}
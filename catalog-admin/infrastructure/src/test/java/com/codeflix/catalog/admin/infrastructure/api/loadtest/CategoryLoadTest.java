@@ -0,0 +1,209 @@
+package com.codeflix.catalog.admin.infrastructure.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.infrastructure.api.loadtest.LoadTestOptions.Operation;
+import com.codeflix.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.codeflix.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
+import com.codeflix.catalog.admin.infrastructure.configuration.WebServerConfig;
+import com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+
+/**
+ * Boots the application on the in-memory test database, seeds categories and drives a weighted mix of reads, searches,
+ * creates and updates through the REST API, then writes throughput and latency percentiles per operation as JSON so
+ * two builds can be diffed. With {@code --rate} requests follow a fixed schedule and latency is measured from the
+ * scheduled start, so a stalled server shows up in the tail instead of silently lowering the offered load.
+ * Run with {@code ./gradlew :infrastructure:loadTest -PloadTest.duration=60 -PloadTest.mix=get:80,list:20}.
+ */
+public class CategoryLoadTest {
+
+    private static final int SEED_BATCH = 500;
+
+    public static void main(final String[] args) throws Exception {
+        final var options = LoadTestOptions.from(args);
+
+        final var applicationArgs = new ArrayList<>(List.of(
+                "--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN"));
+        applicationArgs.addAll(options.applicationArgs());
+
+        final var context = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test-integration")
+                .run(applicationArgs.toArray(String[]::new));
+
+        try {
+            final var ids = seed(context.getBean(CategoryMySQLGateway.class), options.categories());
+            final var aBaseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            final var aClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            run(options, options.warmup(), aClient, aBaseUri, ids);
+            final var aReport = LoadTestReport.from(options, run(options, options.duration(), aClient, aBaseUri, ids));
+
+            Files.createDirectories(options.report().toAbsolutePath().getParent());
+            Files.writeString(options.report(), Json.mapper().writerWithDefaultPrettyPrinter().writeValueAsString(aReport));
+
+            print(aReport);
+            System.out.printf("report written to %s%n", options.report().toAbsolutePath());
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<String> seed(final CategoryMySQLGateway aGateway, final int count) {
+        final var ids = new ArrayList<String>(count);
+
+        for (int i = 0; i < count; i += SEED_BATCH) {
+            final var batch = new ArrayList<Category>(SEED_BATCH);
+            for (int j = i; j < Math.min(i + SEED_BATCH, count); j++) {
+                batch.add(Category.newCategory("Category " + j, "Description of category " + j, j % 10 != 0));
+            }
+
+            aGateway.createAll(batch).forEach(it -> ids.add(it.getId().getValue()));
+        }
+
+        return ids;
+    }
+
+    private static Map<Operation, List<LatencyRecorder>> run(
+            final LoadTestOptions options,
+            final Duration aDuration,
+            final HttpClient aClient,
+            final URI aBaseUri,
+            final List<String> ids) throws InterruptedException, ExecutionException {
+        final var anExecutor = Executors.newFixedThreadPool(options.concurrency());
+        final var deadline = System.nanoTime() + aDuration.toNanos();
+
+        try {
+            final var workers = new ArrayList<Callable<Map<Operation, LatencyRecorder>>>(options.concurrency());
+            for (int i = 0; i < options.concurrency(); i++) {
+                workers.add(() -> work(options, deadline, aClient, aBaseUri, ids));
+            }
+
+            final var recorders = new EnumMap<Operation, List<LatencyRecorder>>(Operation.class);
+            for (final var aResult : anExecutor.invokeAll(workers)) {
+                aResult.get().forEach((anOperation, aRecorder) ->
+                        recorders.computeIfAbsent(anOperation, it -> new ArrayList<>()).add(aRecorder));
+            }
+
+            return recorders;
+        } finally {
+            anExecutor.shutdownNow();
+        }
+    }
+
+    private static Map<Operation, LatencyRecorder> work(
+            final LoadTestOptions options,
+            final long deadline,
+            final HttpClient aClient,
+            final URI aBaseUri,
+            final List<String> ids) throws InterruptedException {
+        final var recorders = new EnumMap<Operation, LatencyRecorder>(Operation.class);
+        options.mix().keySet().forEach(anOperation -> recorders.put(anOperation, new LatencyRecorder()));
+
+        final var interval = options.rate() > 0
+                ? TimeUnit.SECONDS.toNanos(options.concurrency()) / options.rate()
+                : 0L;
+
+        // spread scheduled workers over one interval so they do not fire in lockstep
+        var scheduledAt = System.nanoTime() + (interval > 0 ? ThreadLocalRandom.current().nextLong(interval) : 0L);
+
+        while (scheduledAt < deadline) {
+            if (interval > 0) {
+                LockSupport.parkNanos(scheduledAt - System.nanoTime());
+            }
+
+            final var anOperation = pick(options.mix());
+            final var success = send(aClient, request(anOperation, aBaseUri, ids));
+            recorders.get(anOperation).record(System.nanoTime() - scheduledAt, success);
+
+            scheduledAt = interval > 0 ? scheduledAt + interval : System.nanoTime();
+        }
+
+        return recorders;
+    }
+
+    private static Operation pick(final Map<Operation, Integer> aMix) {
+        final var total = aMix.values().stream().mapToInt(Integer::intValue).sum();
+        var aRoll = ThreadLocalRandom.current().nextInt(total);
+
+        for (final var anEntry : aMix.entrySet()) {
+            aRoll -= anEntry.getValue();
+            if (aRoll < 0) {
+                return anEntry.getKey();
+            }
+        }
+
+        throw new IllegalStateException("unreachable");
+    }
+
+    private static HttpRequest request(final Operation anOperation, final URI aBaseUri, final List<String> ids) {
+        final var aRandom = ThreadLocalRandom.current();
+        final var anId = ids.get(aRandom.nextInt(ids.size()));
+
+        return switch (anOperation) {
+            case GET -> HttpRequest.newBuilder(aBaseUri.resolve("/categories/" + anId)).GET().build();
+            case LIST -> HttpRequest.newBuilder(aBaseUri.resolve(
+                    "/categories?search=Category%20" + aRandom.nextInt(100) + "&perPage=10&sort=name&dir=asc"))
+                    .GET()
+                    .build();
+            case CREATE -> json(HttpRequest.newBuilder(aBaseUri.resolve("/categories")), "POST",
+                    new CreateCategoryRequest("Load " + aRandom.nextInt(1_000_000), "Created by the load test", true));
+            case UPDATE -> json(HttpRequest.newBuilder(aBaseUri.resolve("/categories/" + anId)), "PUT",
+                    new UpdateCategoryRequest("Updated " + aRandom.nextInt(1_000_000), "Updated by the load test", true));
+        };
+    }
+
+    private static HttpRequest json(final HttpRequest.Builder aBuilder, final String aMethod, final Object aBody) {
+        return aBuilder
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(aMethod, HttpRequest.BodyPublishers.ofString(Json.writeValueAsString(aBody)))
+                .build();
+    }
+
+    // concurrent updates of one row may lose the optimistic lock race, those count as errors like any other 4xx
+    private static boolean send(final HttpClient aClient, final HttpRequest aRequest) throws InterruptedException {
+        try {
+            return aClient.send(aRequest, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+        } catch (final IOException ex) {
+            return false;
+        }
+    }
+
+    private static void print(final LoadTestReport aReport) {
+        System.out.printf("%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms");
+
+        aReport.operations().forEach((anOperation, stats) -> print(anOperation.name().toLowerCase(), stats));
+        print("total", aReport.total());
+    }
+
+    private static void print(final String aName, final LoadTestReport.Stats stats) {
+        System.out.printf("%-8s %,10d %,8d %,10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                aName, stats.requests(), stats.errors(), stats.throughput(),
+                stats.p50Millis(), stats.p95Millis(), stats.p99Millis(), stats.p999Millis(), stats.maxMillis());
+    }
+}
@@ -0,0 +1,71 @@
+package com.codeflix.catalog.admin.infrastructure.api.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.codeflix.catalog.admin.infrastructure.configuration.json.Json;
+import com.codeflix.catalog.admin.infrastructure.configuration.threads.VirtualThreads;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Runs {@link CategoryLoadTest} once with the Undertow worker pool and once with virtual threads, each in its own JVM so
+ * neither run inherits the other's JIT state, and prints both totals side by side. Requests go through Undertow, the
+ * bulkhead and the Hikari pool on the in-memory database, so the comparison covers the whole blocking request path.
+ * Run with {@code ./gradlew :infrastructure:benchmarkExecutionModes}, which launches on a JDK 21 toolchain; load test
+ * options such as {@code --concurrency=512} are passed through.
+ */
+public class ExecutionModeBenchmark {
+
+    private static final String VIRTUAL_THREADS = "--execution.virtual-threads.enabled=";
+    private static final Path REPORTS = Path.of("build", "reports", "execution-modes");
+
+    public static void main(final String[] args) throws Exception {
+        // a comparison with one side missing is not a comparison, so this fails instead of skipping
+        if (!VirtualThreads.isSupported()) {
+            throw new IllegalStateException(
+                    "virtual threads require JDK 21 or newer, running on %s".formatted(Runtime.version()));
+        }
+
+        final var platform = run("platform", false, args);
+        final var virtual = run("virtual", true, args);
+
+        System.out.printf("%-8s %10s %8s %10s %9s %9s %9s%n",
+                "", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        print("platform", platform);
+        print("virtual", virtual);
+    }
+
+    private static JsonNode run(final String aMode, final boolean virtual, final String[] args)
+            throws IOException, InterruptedException {
+        final var aReport = REPORTS.resolve(aMode + ".json");
+
+        final var command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                CategoryLoadTest.class.getName()));
+        command.addAll(List.of(args));
+        command.add(VIRTUAL_THREADS + virtual);
+        command.add("--report=" + aReport);
+
+        final var exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("the %s load test exited with %d".formatted(aMode, exitCode));
+        }
+
+        return Json.mapper().readTree(Files.readString(aReport)).get("total");
+    }
+
+    private static void print(final String aMode, final JsonNode total) {
+        System.out.printf("%-8s %,10d %,8d %,10.1f %9.2f %9.2f %9.2f%n",
+                aMode,
+                total.get("requests").asLong(),
+                total.get("errors").asLong(),
+                total.get("throughput").asDouble(),
+                total.get("p50_millis").asDouble(),
+                total.get("p99_millis").asDouble(),
+                total.get("max_millis").asDouble());
+    }
+}
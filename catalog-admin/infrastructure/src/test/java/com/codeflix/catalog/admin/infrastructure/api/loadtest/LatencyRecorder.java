@@ -0,0 +1,34 @@
+package com.codeflix.catalog.admin.infrastructure.api.loadtest;
+
+import java.util.Arrays;
+
+// keeps every sample so percentiles are exact, one recorder per worker and operation so recording never contends
+public class LatencyRecorder {
+
+    private long[] samples = new long[1_024];
+    private int count;
+    private int errors;
+
+    public void record(final long nanos, final boolean success) {
+        if (this.count == this.samples.length) {
+            this.samples = Arrays.copyOf(this.samples, this.count * 2);
+        }
+
+        this.samples[this.count++] = nanos;
+        if (!success) {
+            this.errors++;
+        }
+    }
+
+    public int count() {
+        return this.count;
+    }
+
+    public int errors() {
+        return this.errors;
+    }
+
+    public long[] samples() {
+        return Arrays.copyOf(this.samples, this.count);
+    }
+}
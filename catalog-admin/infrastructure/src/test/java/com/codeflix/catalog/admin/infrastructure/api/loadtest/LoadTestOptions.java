@@ -0,0 +1,73 @@
+package com.codeflix.catalog.admin.infrastructure.api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestOptions(
+        int categories,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int rate,
+        Map<Operation, Integer> mix,
+        Path report,
+        List<String> applicationArgs) {
+
+    private static final String PREFIX = "--";
+
+    public enum Operation {
+        GET,
+        LIST,
+        CREATE,
+        UPDATE
+    }
+
+    // anything that is not a load test option is handed to the application, e.g. --category.cache.enabled=true
+    public static LoadTestOptions from(final String[] args) {
+        var categories = 5_000;
+        var concurrency = 32;
+        var warmup = Duration.ofSeconds(10);
+        var duration = Duration.ofSeconds(30);
+        var rate = 0;
+        var mix = mix("get:70,list:20,create:5,update:5");
+        var report = Path.of("build", "reports", "load-test", "report.json");
+        final var applicationArgs = new ArrayList<String>();
+
+        for (final var anArg : args) {
+            final var separator = anArg.indexOf('=');
+            final var aName = separator > 0 ? anArg.substring(PREFIX.length(), separator) : "";
+            final var aValue = separator > 0 ? anArg.substring(separator + 1) : "";
+
+            switch (aName) {
+                case "categories" -> categories = Integer.parseInt(aValue);
+                case "concurrency" -> concurrency = Integer.parseInt(aValue);
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(aValue));
+                case "duration" -> duration = Duration.ofSeconds(Long.parseLong(aValue));
+                case "rate" -> rate = Integer.parseInt(aValue);
+                case "mix" -> mix = mix(aValue);
+                case "report" -> report = Path.of(aValue);
+                default -> applicationArgs.add(anArg);
+            }
+        }
+
+        return new LoadTestOptions(categories, concurrency, warmup, duration, rate, mix, report, applicationArgs);
+    }
+
+    private static Map<Operation, Integer> mix(final String aMix) {
+        final var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (final var anEntry : aMix.split(",")) {
+            final var parts = anEntry.split(":");
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("'mix' must have at least one positive weight");
+        }
+
+        return weights;
+    }
+}
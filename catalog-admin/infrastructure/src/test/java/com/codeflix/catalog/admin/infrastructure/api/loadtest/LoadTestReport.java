@@ -0,0 +1,76 @@
+package com.codeflix.catalog.admin.infrastructure.api.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import com.codeflix.catalog.admin.infrastructure.api.loadtest.LoadTestOptions.Operation;
+
+public record LoadTestReport(
+        int categories,
+        int concurrency,
+        long durationSeconds,
+        int targetRate,
+        Map<Operation, Integer> mix,
+        Stats total,
+        Map<Operation, Stats> operations) {
+
+    public record Stats(
+            long requests,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis) {
+
+        public static Stats from(final List<LatencyRecorder> recorders, final double seconds) {
+            final var samples = recorders.stream()
+                    .flatMapToLong(it -> LongStream.of(it.samples()))
+                    .toArray();
+            Arrays.sort(samples);
+
+            return new Stats(
+                    samples.length,
+                    recorders.stream().mapToLong(LatencyRecorder::errors).sum(),
+                    samples.length / seconds,
+                    percentile(samples, 0.50),
+                    percentile(samples, 0.95),
+                    percentile(samples, 0.99),
+                    percentile(samples, 0.999),
+                    percentile(samples, 1.0));
+        }
+
+        private static double percentile(final long[] sorted, final double aPercentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+
+            final var index = (int) Math.ceil(aPercentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    public static LoadTestReport from(
+            final LoadTestOptions options,
+            final Map<Operation, List<LatencyRecorder>> recorders) {
+        final var seconds = options.duration().toMillis() / 1_000.0;
+
+        final var operations = new LinkedHashMap<Operation, Stats>();
+        recorders.forEach((anOperation, someRecorders) -> operations.put(anOperation, Stats.from(someRecorders, seconds)));
+
+        final var all = recorders.values().stream().flatMap(List::stream).toList();
+
+        return new LoadTestReport(
+                options.categories(),
+                options.concurrency(),
+                options.duration().toSeconds(),
+                options.rate(),
+                options.mix(),
+                Stats.from(all, seconds),
+                operations);
+    }
+}
@@ -1,20 +1,38 @@
 package com.codeflix.catalog.admin.infrastructure.category;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.codeflix.catalog.admin.MySQLGatewayTest;
 import com.codeflix.catalog.admin.domain.category.Category;
 import com.codeflix.catalog.admin.domain.category.CategoryID;
 import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+import com.codeflix.catalog.admin.domain.exceptions.ConflictException;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
 import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.catalog.admin.infrastructure.utils.CursorUtils;
 
 @MySQLGatewayTest
 public class CategoryMySQLGatewayTest {
@@ -25,6 +43,9 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -61,6 +82,27 @@ public class CategoryMySQLGatewayTest {
         assertNull(aCategory.getDeletedAt());
     }
 
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldIssueASingleInsertStatement() {
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        entityManager.flush();
+        statistics.setStatisticsEnabled(true);
+        try {
+            statistics.clear();
+
+            categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+            entityManager.flush();
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(1, statistics.getEntityInsertCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void givenAValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated() throws Exception {
         final var expectedName = "Filmes";
@@ -111,6 +153,37 @@ public class CategoryMySQLGatewayTest {
         assertNull(aCategory.getDeletedAt());
     }
 
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldIncrementVersion() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.newEntity(aCategory));
+
+        final var firstUpdate = categoryMySQLGateway.update(Category.with(aCategory).update("Filmes", null, true));
+        final var secondUpdate = categoryMySQLGateway.update(Category.with(firstUpdate).update("Séries", null, true));
+
+        assertEquals(0, aCategory.getVersion());
+        assertEquals(1, firstUpdate.getVersion());
+        assertEquals(2, secondUpdate.getVersion());
+        assertEquals(2, categoryRepository.findById(aCategory.getId().getValue()).get().getVersion());
+    }
+
+    @Test
+    void givenAStaleCategory_whenCallsUpdate_shouldThrowConflictException() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.newEntity(aCategory));
+
+        categoryMySQLGateway.update(Category.with(aCategory).update("Filmes", null, true));
+
+        final var aStaleCategory = Category.with(aCategory).update("Séries", null, true);
+        final var actualException = assertThrows(
+                ConflictException.class,
+                () -> categoryMySQLGateway.update(aStaleCategory));
+
+        assertEquals(
+                "Category with ID %s was changed by another request".formatted(aCategory.getId().getValue()),
+                actualException.getMessage());
+    }
+
     @Test
     void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory() {
         final var aCategory = Category
@@ -122,7 +195,7 @@ public class CategoryMySQLGatewayTest {
 
         assertEquals(1, categoryRepository.count());
 
-        categoryMySQLGateway.deleteById(aCategory.getId());
+        assertEquals(1, categoryMySQLGateway.deleteById(aCategory.getId()));
 
         assertEquals(0, categoryRepository.count());
     }
@@ -131,7 +204,7 @@ public class CategoryMySQLGatewayTest {
     void givenInvalidCategoryId_whenTryDeleteIt_shouldDeleteCategory() {
         assertEquals(0, categoryRepository.count());
 
-        categoryMySQLGateway.deleteById(CategoryID.from("invalid"));
+        assertEquals(0, categoryMySQLGateway.deleteById(CategoryID.from("invalid")));
 
         assertEquals(0, categoryRepository.count());
     }
@@ -174,6 +247,148 @@ public class CategoryMySQLGatewayTest {
         assertTrue(actualCategory.isEmpty());
     }
 
+    @Test
+    void givenAnUpdatedCategory_whenCallsFindVersionById_shouldReturnVersionAndUpdatedAt() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.newEntity(aCategory));
+
+        categoryMySQLGateway.update(Category.with(aCategory).update("Filmes", null, true));
+        entityManager.clear();
+
+        final var expectedUpdatedAt = categoryMySQLGateway.findById(aCategory.getId()).get().getUpdatedAt();
+        final var actualVersion = categoryMySQLGateway.findVersionById(aCategory.getId()).get();
+
+        assertEquals(aCategory.getId(), actualVersion.id());
+        assertEquals(1, actualVersion.version());
+        assertEquals(expectedUpdatedAt, actualVersion.updatedAt());
+        assertTrue(categoryMySQLGateway.findVersionById(CategoryID.from("empty")).isEmpty());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsFindForUpdate_shouldReturnTheStoredRow() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.newEntity(aCategory));
+
+        final var missingId = CategoryID.from("empty");
+
+        assertEquals(aCategory.getId(), categoryMySQLGateway.findByIdForUpdate(aCategory.getId()).get().getId());
+        assertTrue(categoryMySQLGateway.findByIdForUpdate(missingId).isEmpty());
+        assertEquals(1, categoryMySQLGateway.findAllByIdsForUpdate(List.of(aCategory.getId(), missingId)).size());
+    }
+
+    @Test
+    void givenBinaryIdsAndANonUuidId_whenCallsGateway_shouldTreatItAsMissing() {
+        final var aGateway = new CategoryMySQLGateway(categoryRepository, null, false, true, 1000);
+        final var aNonUuidId = CategoryID.from("123");
+
+        assertTrue(aGateway.findById(aNonUuidId).isEmpty());
+        assertTrue(aGateway.findByIdForUpdate(aNonUuidId).isEmpty());
+        assertTrue(aGateway.findVersionById(aNonUuidId).isEmpty());
+        assertTrue(aGateway.findAllByIds(List.of(aNonUuidId)).isEmpty());
+        assertEquals(0, aGateway.deleteById(aNonUuidId));
+        assertEquals(0, aGateway.deleteAllByIds(List.of(aNonUuidId)));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllByIds_shouldReturnOnlyStoredCategories() {
+        final var films = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(films),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        final var actualResult = categoryMySQLGateway.findAllByIds(
+                List.of(films.getId(), CategoryID.from("empty"), documentaries.getId()));
+
+        assertEquals(2, actualResult.size());
+        assertEquals(
+                Set.of(films.getId(), documentaries.getId()),
+                actualResult.stream().map(Category::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsFindAllByIds_shouldReturnEmptyList() {
+        assertTrue(categoryMySQLGateway.findAllByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldPersistAll() {
+        final var films = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Episódios", false);
+
+        assertEquals(0, categoryRepository.count());
+
+        final var actualResult = categoryMySQLGateway.createAll(List.of(films, series));
+
+        assertEquals(2, actualResult.size());
+        assertEquals(2, categoryRepository.count());
+        assertEquals("Episódios", categoryRepository.findById(series.getId().getValue()).get().getDescription());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsUpdateAll_shouldUpdateAll() {
+        final var films = Category.newCategory("Film", null, true);
+        final var series = Category.newCategory("Serie", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.from(films), CategoryJpaEntity.from(series)));
+
+        categoryMySQLGateway.updateAll(List.of(
+                Category.with(films).update("Filmes", "A categoria mais assistida", true),
+                Category.with(series).update("Séries", null, false)));
+
+        final var actualFilms = categoryRepository.findById(films.getId().getValue()).get();
+        final var actualSeries = categoryRepository.findById(series.getId().getValue()).get();
+
+        assertEquals("Filmes", actualFilms.getName());
+        assertEquals("A categoria mais assistida", actualFilms.getDescription());
+        assertEquals("Séries", actualSeries.getName());
+        assertFalse(actualSeries.isActive());
+        assertEquals(2, categoryRepository.count());
+    }
+
+    @Test
+    // outside the test transaction, so the rolled back batch is what the assertions read
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void givenAStaleCategory_whenCallsUpdateAll_shouldThrowConflictExceptionAndWriteNothing() {
+        final var films = Category.newCategory("Film", null, true);
+        final var series = Category.newCategory("Serie", null, true);
+
+        categoryRepository.saveAll(List.of(CategoryJpaEntity.newEntity(films), CategoryJpaEntity.newEntity(series)));
+        categoryMySQLGateway.update(Category.with(series).update("Séries", null, true));
+
+        final var aBatch = List.of(
+                Category.with(films).update("Filmes", null, true),
+                Category.with(series).update("Series", null, false));
+
+        assertThrows(ConflictException.class, () -> categoryMySQLGateway.updateAll(aBatch));
+
+        assertEquals("Film", categoryRepository.findById(films.getId().getValue()).get().getName());
+        assertEquals("Séries", categoryRepository.findById(series.getId().getValue()).get().getName());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsDeleteAllByIds_shouldDeleteOnlyGivenIds() {
+        final var films = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(films),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        final var actualDeleted = categoryMySQLGateway.deleteAllByIds(
+                List.of(films.getId(), documentaries.getId(), CategoryID.from("empty")));
+
+        assertEquals(2, actualDeleted);
+
+        assertEquals(1, categoryRepository.count());
+        assertTrue(categoryRepository.existsById(series.getId().getValue()));
+    }
+
     @Test
     void givenPrePresistedCategories_whenCallsFindAll_shouldReturnPaginated() {
         final var expectedPage = 0;
@@ -193,7 +408,7 @@ public class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", null, TotalMode.EXACT);
 
         final var actualResult = categoryMySQLGateway.findAll(query);
 
@@ -212,7 +427,7 @@ public class CategoryMySQLGatewayTest {
 
         assertEquals(0, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", null, TotalMode.EXACT);
 
         final var actualResult = categoryMySQLGateway.findAll(query);
 
@@ -241,7 +456,7 @@ public class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
-        var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        var query = new CategorySearchQuery(0, 1, "", "name", "asc", null, TotalMode.EXACT);
         var actualResult = categoryMySQLGateway.findAll(query);
 
         assertEquals(expectedPage, actualResult.currentPage());
@@ -251,7 +466,7 @@ public class CategoryMySQLGatewayTest {
         assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
 
         // Page 1
-        query = new CategorySearchQuery(1, 1, "", "name", "asc");
+        query = new CategorySearchQuery(1, 1, "", "name", "asc", null, TotalMode.EXACT);
         actualResult = categoryMySQLGateway.findAll(query);
         expectedPage = 1;
 
@@ -262,7 +477,7 @@ public class CategoryMySQLGatewayTest {
         assertEquals(films.getId(), actualResult.items().get(0).getId());
 
         // Page 2
-        query = new CategorySearchQuery(2, 1, "", "name", "asc");
+        query = new CategorySearchQuery(2, 1, "", "name", "asc", null, TotalMode.EXACT);
         actualResult = categoryMySQLGateway.findAll(query);
         expectedPage = 2;
 
@@ -292,7 +507,7 @@ public class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "doc", "name", "asc");
+        final var query = new CategorySearchQuery(0, 1, "doc", "name", "asc", null, TotalMode.EXACT);
 
         final var actualResult = categoryMySQLGateway.findAll(query);
 
@@ -322,7 +537,7 @@ public class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "MAIS ASSISTIDA", "name", "asc");
+        final var query = new CategorySearchQuery(0, 1, "MAIS ASSISTIDA", "name", "asc", null, TotalMode.EXACT);
 
         final var actualResult = categoryMySQLGateway.findAll(query);
 
@@ -333,4 +548,230 @@ public class CategoryMySQLGatewayTest {
         assertEquals(films.getId(), actualResult.items().get(0).getId());
     }
 
-}
+    @Test
+    void givenFollowCursor_whenCallsFindAllAfterNextCursor_shouldReturnNextItemsWithoutTotal() {
+        final var expectedPerPage = 1;
+
+        final var films = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(films),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        var actualResult = categoryMySQLGateway.findAll(query);
+
+        assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        query = new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor(), TotalMode.NONE);
+        actualResult = categoryMySQLGateway.findAll(query);
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(films.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        query = new CategorySearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor());
+        actualResult = categoryMySQLGateway.findAll(query);
+
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenNumericSortKeys_whenCallsFindAllFollowingCursor_shouldCompareThemAsNumbers() {
+        var films = Category.newCategory("Filmes", null, true);
+        var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(films), CategoryJpaEntity.from(series)));
+
+        // as text "10" sorts before "2"
+        for (int i = 0; i < 2; i++) {
+            films = categoryMySQLGateway.update(Category.with(films).update("Filmes", null, true));
+        }
+        for (int i = 0; i < 10; i++) {
+            series = categoryMySQLGateway.update(Category.with(series).update("Séries", null, true));
+        }
+
+        var query = new CategorySearchQuery(0, 1, "", "version", "asc");
+        var actualResult = categoryMySQLGateway.findAll(query);
+
+        assertEquals(films.getId(), actualResult.items().get(0).getId());
+
+        query = new CategorySearchQuery(0, 1, "", "version", "asc", actualResult.nextCursor());
+        actualResult = categoryMySQLGateway.findAll(query);
+
+        assertEquals(1, actualResult.items().size());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    void givenACursorWithANonNumericValue_whenCallsFindAllByVersion_shouldThrowDomainException() {
+        final var aCursor = CursorUtils.encodeSort("version", "ten", "123");
+        final var query = new CategorySearchQuery(0, 1, "", "version", "asc", aCursor);
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        assertEquals("'after' is not a valid cursor", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenNullSortKeys_whenCallsFindAllFollowingCursorDesc_shouldReturnEveryCategoryOnce() {
+        final var films = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(films),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        final var actualIds = new ArrayList<CategoryID>();
+        String after = null;
+
+        do {
+            final var query = new CategorySearchQuery(0, 1, "", "description", "desc", after);
+            final var actualResult = categoryMySQLGateway.findAll(query);
+
+            actualResult.items().forEach(it -> actualIds.add(it.getId()));
+            after = actualResult.nextCursor();
+        } while (after != null);
+
+        assertEquals(3, actualIds.size());
+        assertEquals(films.getId(), actualIds.get(0));
+        assertTrue(actualIds.containsAll(List.of(series.getId(), documentaries.getId())));
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", "invalid");
+
+        final var actualException = assertThrows(
+                DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenNoneTotalMode_whenCallsFindAll_shouldReturnNextCursorWithoutTotal() {
+        final var films = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(films),
+                CategoryJpaEntity.from(series)));
+
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", null, TotalMode.NONE);
+        final var actualResult = categoryMySQLGateway.findAll(query);
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertEquals(1, actualResult.items().size());
+        assertEquals(films.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenEstimatedTotalMode_whenCallsFindAll_shouldReturnCachedTotal() {
+        final var films = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(films),
+                CategoryJpaEntity.from(series)));
+
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", null, TotalMode.ESTIMATED);
+
+        assertEquals(2, categoryMySQLGateway.findAll(query).total());
+
+        categoryRepository.save(CategoryJpaEntity.from(Category.newCategory("Documentários", null, true)));
+
+        assertEquals(2, categoryMySQLGateway.findAll(query).total());
+    }
+
+    @Test
+    void givenDescriptionModes_whenCallsFindAll_shouldProjectDescription() {
+        final var aDescription = "A".repeat(DescriptionMode.TRUNCATED_LENGTH + 50);
+        final var films = Category.newCategory("Filmes", aDescription, true);
+
+        categoryRepository.save(CategoryJpaEntity.from(films));
+
+        final var full = findOne(DescriptionMode.FULL);
+        final var truncated = findOne(DescriptionMode.TRUNCATED);
+        final var none = findOne(DescriptionMode.NONE);
+
+        assertEquals(aDescription, full.getDescription());
+        assertEquals(aDescription.substring(0, DescriptionMode.TRUNCATED_LENGTH), truncated.getDescription());
+        assertNull(none.getDescription());
+        assertEquals(films.getId(), none.getId());
+        assertEquals(films.getName(), none.getName());
+        assertEquals(films.isActive(), none.isActive());
+        assertEquals(aDescription, categoryRepository.findById(films.getId().getValue()).get().getDescription());
+    }
+
+    private Category findOne(final DescriptionMode descriptionMode) {
+        final var query = new CategorySearchQuery(0, 1, "", "name", "asc", null, TotalMode.NONE, descriptionMode);
+        return categoryMySQLGateway.findAll(query).items().get(0);
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsStreamAll_shouldStreamEveryCategoryDetached() {
+        final var films = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(films),
+                CategoryJpaEntity.from(series)));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        final var actualIds = new ArrayList<CategoryID>();
+        categoryMySQLGateway.streamAll(aCategory -> actualIds.add(aCategory.getId()));
+
+        assertEquals(2, actualIds.size());
+        assertTrue(actualIds.containsAll(List.of(films.getId(), series.getId())));
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void givenRelevanceSortWithoutFullTextSearch_whenCallsFindAll_shouldFallbackToLikeOrderedByName() {
+        final var films = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        final var documentaries = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(films),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)));
+
+        final var query = new CategorySearchQuery(0, 10, "categoria", "relevance", "asc", null, TotalMode.EXACT);
+
+        final var actualResult = categoryMySQLGateway.findAll(query);
+
+        assertEquals(3, actualResult.total());
+        assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        assertEquals(films.getId(), actualResult.items().get(1).getId());
+        assertEquals(series.getId(), actualResult.items().get(2).getId());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenRelevanceSortAndACursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'after' cursor can not be used when sorting by relevance";
+
+        final var query = new CategorySearchQuery(0, 1, "filmes", "relevance", "asc", "eyJhZnRlciJ9");
+
+        final var actualException = assertThrows(
+                DomainException.class, () -> categoryMySQLGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+}
\ No newline at end of file
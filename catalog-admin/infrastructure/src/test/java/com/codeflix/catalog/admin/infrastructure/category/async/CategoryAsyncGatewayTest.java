@@ -0,0 +1,104 @@
+package com.codeflix.catalog.admin.infrastructure.category.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryAsyncGatewayTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    CategoryAsyncGateway categoryAsyncGateway;
+
+    @AfterEach
+    void tearDown() {
+        if (categoryAsyncGateway != null) {
+            categoryAsyncGateway.shutdown();
+        }
+    }
+
+    @Test
+    void givenACategory_whenCallsFindById_shouldCompleteOffTheCallerThread() {
+        categoryAsyncGateway = CategoryAsyncGateway.create(categoryGateway, 2, 10, new SimpleMeterRegistry());
+
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var callerThread = Thread.currentThread();
+        final var gatewayThread = new AtomicReference<Thread>();
+
+        when(categoryGateway.findById(aCategory.getId())).thenAnswer(invocation -> {
+            gatewayThread.set(Thread.currentThread());
+            return Optional.of(aCategory);
+        });
+
+        final var actualResult = categoryAsyncGateway.findById(aCategory.getId()).toCompletableFuture().join();
+
+        assertEquals(aCategory.getId(), actualResult.orElseThrow().getId());
+        assertNotEquals(callerThread, gatewayThread.get());
+        assertTrue(gatewayThread.get().getName().startsWith("category-async-"));
+    }
+
+    @Test
+    void givenAFailingGateway_whenCallsFindAll_shouldCompleteExceptionally() {
+        categoryAsyncGateway = CategoryAsyncGateway.create(categoryGateway, 1, 10, new SimpleMeterRegistry());
+
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        when(categoryGateway.findAll(aQuery)).thenThrow(new IllegalStateException("Gateway error"));
+
+        final var aResult = categoryAsyncGateway.findAll(aQuery).toCompletableFuture();
+        final var actualException = assertThrows(CompletionException.class, aResult::join);
+
+        assertEquals("Gateway error", actualException.getCause().getMessage());
+    }
+
+    @Test
+    void givenAFullQueue_whenCallsFindById_shouldFailWithRejectedExecution() throws Exception {
+        categoryAsyncGateway = CategoryAsyncGateway.create(categoryGateway, 1, 1, new SimpleMeterRegistry());
+
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        when(categoryGateway.findById(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        final var running = categoryAsyncGateway.findById(CategoryID.unique()).toCompletableFuture();
+        started.await(5, TimeUnit.SECONDS);
+        final var queued = categoryAsyncGateway.findById(CategoryID.unique()).toCompletableFuture();
+        final var rejected = categoryAsyncGateway.findById(CategoryID.unique()).toCompletableFuture();
+
+        final var actualException = assertThrows(CompletionException.class, rejected::join);
+        assertEquals(RejectedExecutionException.class, actualException.getCause().getClass());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS).isEmpty());
+        assertTrue(queued.get(5, TimeUnit.SECONDS).isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package com.codeflix.catalog.admin.infrastructure.category.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryBulkheadGatewayTest {
+
+    private static final int CALLERS = 8;
+    private static final int PERMITS = 2;
+    private static final int EXPORT_PERMITS = 1;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Test
+    void givenMoreCallersThanPermits_whenCallsFindById_shouldNeverExceedPermits() throws Exception {
+        final var aGateway = new CategoryBulkheadGateway(categoryGateway, PERMITS, EXPORT_PERMITS);
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var entered = new CountDownLatch(PERMITS);
+        final var release = new CountDownLatch(1);
+
+        when(categoryGateway.findById(any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return Optional.of(Category.newCategory("Filmes", null, true));
+        });
+
+        final var anExecutor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            final var results = new ArrayList<Future<Optional<Category>>>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(anExecutor.submit(() -> aGateway.findById(CategoryID.unique())));
+            }
+
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            assertEquals(0, aGateway.availablePermits());
+            release.countDown();
+
+            for (final var aResult : results) {
+                assertTrue(aResult.get(5, TimeUnit.SECONDS).isPresent());
+            }
+        } finally {
+            anExecutor.shutdownNow();
+        }
+
+        assertEquals(PERMITS, maxRunning.get());
+        assertEquals(PERMITS, aGateway.availablePermits());
+    }
+
+    @Test
+    void givenAFailingCall_whenCallsFindById_shouldReleaseThePermit() {
+        final var aGateway = new CategoryBulkheadGateway(categoryGateway, PERMITS, EXPORT_PERMITS);
+
+        when(categoryGateway.findById(any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        assertThrows(IllegalStateException.class, () -> aGateway.findById(CategoryID.unique()));
+        assertEquals(PERMITS, aGateway.availablePermits());
+    }
+
+    @Test
+    void givenARunningExport_whenCallsFindById_shouldNotWaitForIt() throws Exception {
+        final var aGateway = new CategoryBulkheadGateway(categoryGateway, PERMITS, EXPORT_PERMITS);
+        final var exporting = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            exporting.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(categoryGateway).streamAll(any());
+        when(categoryGateway.findById(any())).thenReturn(Optional.empty());
+
+        final var anExecutor = Executors.newSingleThreadExecutor();
+        try {
+            final var anExport = anExecutor.submit(() -> aGateway.streamAll(it -> {
+            }));
+
+            assertTrue(exporting.await(5, TimeUnit.SECONDS));
+            assertEquals(0, aGateway.availableExportPermits());
+            assertEquals(PERMITS, aGateway.availablePermits());
+            assertTrue(aGateway.findById(CategoryID.unique()).isEmpty());
+
+            release.countDown();
+            anExport.get(5, TimeUnit.SECONDS);
+        } finally {
+            anExecutor.shutdownNow();
+        }
+
+        assertEquals(EXPORT_PERMITS, aGateway.availableExportPermits());
+    }
+
+    @Test
+    void givenNoPermits_whenCreatesGateway_shouldFail() {
+        assertThrows(IllegalArgumentException.class, () -> new CategoryBulkheadGateway(categoryGateway, 0, EXPORT_PERMITS));
+        assertThrows(IllegalArgumentException.class, () -> new CategoryBulkheadGateway(categoryGateway, PERMITS, 0));
+    }
+}
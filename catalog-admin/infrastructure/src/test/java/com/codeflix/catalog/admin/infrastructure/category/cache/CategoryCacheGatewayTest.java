@@ -0,0 +1,168 @@
+package com.codeflix.catalog.admin.infrastructure.category.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryVersion;
+import com.codeflix.catalog.admin.infrastructure.configuration.properties.CategoryCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheGatewayTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    SimpleMeterRegistry meterRegistry;
+
+    CategoryCacheGateway categoryCacheGateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        categoryCacheGateway = CategoryCacheGateway.create(
+                categoryGateway, new CategoryCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindByIdTwice_shouldHitDatabaseOnce() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        final var firstCall = categoryCacheGateway.findById(expectedId).get();
+        final var secondCall = categoryCacheGateway.findById(expectedId).get();
+
+        assertEquals(expectedId, secondCall.getId());
+        assertNotSame(firstCall, secondCall);
+        verify(categoryGateway, times(1)).findById(expectedId);
+        assertEquals(1D, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1D, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void givenACreatedOrUpdatedCategory_whenCallsFindById_shouldBeServedFromCache() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.create(aCategory)).thenReturn(aCategory);
+        categoryCacheGateway.create(aCategory);
+
+        final var anUpdated = Category.with(aCategory).update("Séries", null, true);
+        when(categoryGateway.update(anUpdated)).thenReturn(anUpdated);
+        categoryCacheGateway.update(anUpdated);
+
+        assertEquals("Séries", categoryCacheGateway.findById(expectedId).get().getName());
+        verify(categoryGateway, never()).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindVersionById_shouldAskTheDatabase() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var aNewerVersion = new CategoryVersion(expectedId, aCategory.getVersion() + 1, aCategory.getUpdatedAt());
+
+        when(categoryGateway.create(aCategory)).thenReturn(aCategory);
+        categoryCacheGateway.create(aCategory);
+
+        when(categoryGateway.findVersionById(expectedId)).thenReturn(Optional.of(aNewerVersion));
+
+        assertEquals(aNewerVersion, categoryCacheGateway.findVersionById(expectedId).get());
+        verify(categoryGateway, times(1)).findVersionById(expectedId);
+    }
+
+    @Test
+    void givenUpdatesFinishingOutOfOrder_whenCallsFindById_shouldKeepTheNewestVersion() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+        final var anOlder = withVersion(Category.with(aCategory).update("Séries", null, true), 1);
+        final var aNewer = withVersion(Category.with(aCategory).update("Documentários", null, true), 2);
+
+        when(categoryGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        categoryCacheGateway.update(aNewer);
+        categoryCacheGateway.update(anOlder);
+
+        assertEquals("Documentários", categoryCacheGateway.findById(expectedId).get().getName());
+        verify(categoryGateway, never()).findById(expectedId);
+    }
+
+    @Test
+    void givenSomeCachedCategories_whenCallsFindAllByIds_shouldLoadOnlyMissesFromDatabase() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        when(categoryGateway.findById(filmes.getId())).thenReturn(Optional.of(filmes));
+        categoryCacheGateway.findById(filmes.getId());
+
+        when(categoryGateway.findAllByIds(List.of(series.getId()))).thenReturn(List.of(series));
+
+        final var actualResult = categoryCacheGateway.findAllByIds(List.of(filmes.getId(), series.getId()));
+
+        assertEquals(2, actualResult.size());
+        verify(categoryGateway, times(1)).findAllByIds(List.of(series.getId()));
+        verify(categoryGateway, times(1)).findById(filmes.getId());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsDeleteById_shouldInvalidateEntry() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.create(aCategory)).thenReturn(aCategory);
+        categoryCacheGateway.create(aCategory);
+
+        categoryCacheGateway.deleteById(expectedId);
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.empty());
+
+        assertEquals(Optional.empty(), categoryCacheGateway.findById(expectedId));
+        verify(categoryGateway, times(1)).findById(expectedId);
+    }
+
+    @Test
+    void givenAFailingUpdate_whenCallsUpdate_shouldInvalidateEntry() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.create(aCategory)).thenReturn(aCategory);
+        categoryCacheGateway.create(aCategory);
+
+        doThrow(new IllegalStateException("Gateway error")).when(categoryGateway).update(aCategory);
+
+        assertThrows(IllegalStateException.class, () -> categoryCacheGateway.update(aCategory));
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        categoryCacheGateway.findById(expectedId);
+
+        verify(categoryGateway, times(1)).findById(expectedId);
+    }
+
+    private static Category withVersion(final Category aCategory, final long aVersion) {
+        return Category.with(
+                aCategory.getId(), aCategory.getName(), aCategory.getDescription(), aCategory.isActive(),
+                aCategory.getCreatedAt(), aCategory.getUpdatedAt(), aCategory.getDeletedAt(), aVersion);
+    }
+}
@@ -0,0 +1,93 @@
+package com.codeflix.catalog.admin.infrastructure.category.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.infrastructure.configuration.properties.CategoryCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryNegativeCacheGatewayTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    CategoryNegativeCacheGateway categoryNegativeCacheGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryNegativeCacheGateway = CategoryNegativeCacheGateway.create(
+                categoryGateway, new CategoryCacheProperties().getNegative(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsFindByIdTwice_shouldHitDatabaseOnce() {
+        final var expectedId = CategoryID.from("123");
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.empty());
+
+        assertTrue(categoryNegativeCacheGateway.findById(expectedId).isEmpty());
+        assertTrue(categoryNegativeCacheGateway.findById(expectedId).isEmpty());
+
+        verify(categoryGateway, times(1)).findById(expectedId);
+        verify(categoryGateway, times(1)).findByIdForUpdate(expectedId);
+    }
+
+    @Test
+    void givenAReplicaMissThePrimaryAnswers_whenCallsFindById_shouldReturnItAndNotRememberTheMiss() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.empty(), Optional.of(aCategory));
+        when(categoryGateway.findByIdForUpdate(expectedId)).thenReturn(Optional.of(aCategory));
+
+        assertEquals(expectedId, categoryNegativeCacheGateway.findById(expectedId).get().getId());
+        assertEquals(expectedId, categoryNegativeCacheGateway.findById(expectedId).get().getId());
+
+        verify(categoryGateway, times(2)).findById(expectedId);
+        verify(categoryGateway, times(1)).findByIdForUpdate(expectedId);
+    }
+
+    @Test
+    void givenAMissingIdThatIsCreated_whenCallsFindById_shouldReturnCategory() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.empty());
+        categoryNegativeCacheGateway.findById(expectedId);
+
+        when(categoryGateway.create(aCategory)).thenReturn(aCategory);
+        categoryNegativeCacheGateway.create(aCategory);
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        assertEquals(expectedId, categoryNegativeCacheGateway.findById(expectedId).get().getId());
+        verify(categoryGateway, times(2)).findById(expectedId);
+    }
+
+    @Test
+    void givenADeletedId_whenCallsFindById_shouldNotHitDatabase() {
+        final var expectedId = CategoryID.from("123");
+
+        categoryNegativeCacheGateway.deleteById(expectedId);
+
+        assertTrue(categoryNegativeCacheGateway.findById(expectedId).isEmpty());
+        verify(categoryGateway, never()).findById(expectedId);
+    }
+}
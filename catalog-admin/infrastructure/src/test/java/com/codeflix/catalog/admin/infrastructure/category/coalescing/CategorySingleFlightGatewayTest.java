@@ -0,0 +1,159 @@
+package com.codeflix.catalog.admin.infrastructure.category.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.validation.Error;
+
+@ExtendWith(MockitoExtension.class)
+class CategorySingleFlightGatewayTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    CategorySingleFlightGateway categorySingleFlightGateway;
+
+    CountDownLatch arrived;
+
+    List<Thread> callers;
+
+    @BeforeEach
+    void setUp() {
+        arrived = new CountDownLatch(CALLERS);
+        callers = new CopyOnWriteArrayList<>();
+        categorySingleFlightGateway = new CategorySingleFlightGateway(categoryGateway);
+    }
+
+    @Test
+    void givenConcurrentCallsForTheSameId_whenCallsFindById_shouldHitDatabaseOnce() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(expectedId)).thenAnswer(invocation -> {
+            awaitJoiners();
+            return Optional.of(aCategory);
+        });
+
+        final var results = runConcurrently(() -> categorySingleFlightGateway.findById(expectedId));
+
+        for (final var aResult : results) {
+            assertEquals(expectedId, aResult.get().orElseThrow().getId());
+        }
+        assertNotSame(results.get(0).get().get(), results.get(1).get().get());
+        verify(categoryGateway, times(1)).findById(expectedId);
+    }
+
+    @Test
+    void givenConcurrentIdenticalQueries_whenCallsFindAll_shouldHitDatabaseOnce() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        when(categoryGateway.findAll(aQuery)).thenAnswer(invocation -> {
+            awaitJoiners();
+            return new Pagination<>(0, 10, 1, List.of(aCategory));
+        });
+
+        final var results = runConcurrently(() -> categorySingleFlightGateway.findAll(aQuery));
+
+        for (final var aResult : results) {
+            assertEquals(1, aResult.get().items().size());
+        }
+        verify(categoryGateway, times(1)).findAll(aQuery);
+    }
+
+    @Test
+    void givenAFailingCall_whenCallsFindAll_shouldPropagateErrorToAllCallers() throws Exception {
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        when(categoryGateway.findAll(aQuery)).thenAnswer(invocation -> {
+            awaitJoiners();
+            throw DomainException.with(new Error("'after' is not a valid cursor"));
+        });
+
+        final var results = runConcurrently(() -> categorySingleFlightGateway.findAll(aQuery));
+
+        for (final var aResult : results) {
+            final var actualException = assertThrows(ExecutionException.class, aResult::get);
+            assertEquals(DomainException.class, actualException.getCause().getClass());
+        }
+        verify(categoryGateway, times(1)).findAll(aQuery);
+    }
+
+    @Test
+    void givenSequentialCalls_whenCallsFindById_shouldNotShareResults() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        categorySingleFlightGateway.findById(expectedId);
+        categorySingleFlightGateway.findById(expectedId);
+
+        verify(categoryGateway, times(2)).findById(expectedId);
+    }
+
+    // runs on the loading caller: holds its flight until every other caller has arrived and is parked joining it
+    private void awaitJoiners() throws InterruptedException {
+        assertTrue(arrived.await(5, TimeUnit.SECONDS));
+
+        final var aDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!callers.stream()
+                .filter(aCaller -> aCaller != Thread.currentThread())
+                .allMatch(aCaller -> aCaller.getState() == Thread.State.WAITING)) {
+            assertTrue(System.nanoTime() < aDeadline, "callers did not join the running flight");
+            Thread.onSpinWait();
+        }
+    }
+
+    private <T> List<Future<T>> runConcurrently(final Callable<T> aCall) throws InterruptedException {
+        final var anExecutor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            final List<Future<T>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(anExecutor.submit(() -> {
+                    callers.add(Thread.currentThread());
+                    arrived.countDown();
+                    return aCall.call();
+                }));
+            }
+            for (final var aResult : results) {
+                try {
+                    aResult.get(5, TimeUnit.SECONDS);
+                } catch (final Exception ignored) {
+                }
+            }
+            return results;
+        } finally {
+            anExecutor.shutdownNow();
+        }
+    }
+}
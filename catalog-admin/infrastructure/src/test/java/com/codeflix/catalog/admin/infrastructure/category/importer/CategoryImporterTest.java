@@ -0,0 +1,157 @@
+package com.codeflix.catalog.admin.infrastructure.category.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.application.category.create.CreateCategoriesUseCase;
+import com.codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.codeflix.catalog.admin.application.category.create.CreateCategoryOutput;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.validation.Error;
+import com.codeflix.catalog.admin.domain.validation.handler.Notification;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryImportErrorResponse;
+import com.codeflix.catalog.admin.infrastructure.category.models.CategoryImportProgressResponse;
+
+import io.vavr.control.Either;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryImporterTest {
+
+    @Mock
+    CreateCategoriesUseCase createCategoriesUseCase;
+
+    @Captor
+    ArgumentCaptor<List<CreateCategoryCommand>> commandsCaptor;
+
+    CategoryImporter categoryImporter;
+
+    final List<CategoryImportErrorResponse> errors = new ArrayList<>();
+    final List<CategoryImportProgressResponse> progress = new ArrayList<>();
+
+    final CategoryImportListener listener = new CategoryImportListener() {
+        @Override
+        public void onError(final CategoryImportErrorResponse anError) {
+            errors.add(anError);
+        }
+
+        @Override
+        public void onProgress(final CategoryImportProgressResponse aProgress) {
+            progress.add(aProgress);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        categoryImporter = new CategoryImporter(createCategoriesUseCase, 2);
+    }
+
+    @Test
+    void givenNdjsonLines_whenCallsImport_shouldWriteInBatchesAndReportMalformedLines() {
+        final var input = """
+                {"name": "Filmes", "description": "A categoria mais assistida"}
+                {"name": "Series", "is_active": false}
+                not json
+
+                {"name": "Documentarios"}
+                """;
+
+        when(createCategoriesUseCase.execute(anyList()))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        final var actualResult = categoryImporter.importFrom(stream(input), CategoryImportFormat.NDJSON, listener);
+
+        verify(createCategoriesUseCase, times(2)).execute(commandsCaptor.capture());
+
+        final var batches = commandsCaptor.getAllValues();
+        assertEquals(2, batches.get(0).size());
+        assertEquals(CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true), batches.get(0).get(0));
+        assertEquals(CreateCategoryCommand.with("Series", null, false), batches.get(0).get(1));
+        assertEquals(List.of(CreateCategoryCommand.with("Documentarios", null, true)), batches.get(1));
+
+        assertEquals(1, errors.size());
+        assertEquals(3, errors.get(0).line());
+        assertEquals(new CategoryImportProgressResponse(4, 3, 1), actualResult);
+        assertEquals(List.of(
+                new CategoryImportProgressResponse(2, 2, 0),
+                new CategoryImportProgressResponse(4, 3, 1)), progress);
+    }
+
+    @Test
+    void givenCsvLines_whenCallsImport_shouldParseQuotedFieldsAndReportInvalidRows() {
+        final var input = """
+                name,description,is_active
+                Filmes,"A categoria, ""mais"" assistida",true
+                ,Sem nome,true
+                Series,,maybe
+                """;
+
+        when(createCategoriesUseCase.execute(anyList())).thenAnswer(invocation -> {
+            final List<CreateCategoryCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                    .map(aCommand -> aCommand.name().isBlank()
+                            ? Either.<Notification, CreateCategoryOutput>left(
+                                    Notification.create(new Error("'name' should not be empty")))
+                            : Either.<Notification, CreateCategoryOutput>right(
+                                    CreateCategoryOutput.from(CategoryID.unique().getValue())))
+                    .toList();
+        });
+
+        final var actualResult = categoryImporter.importFrom(stream(input), CategoryImportFormat.CSV, listener);
+
+        verify(createCategoriesUseCase, times(1)).execute(commandsCaptor.capture());
+        assertEquals(
+                CreateCategoryCommand.with("Filmes", "A categoria, \"mais\" assistida", true),
+                commandsCaptor.getValue().get(0));
+
+        assertEquals(2, errors.size());
+        assertEquals(3, errors.get(0).line());
+        assertEquals("'name' should not be empty", errors.get(0).errors().get(0).message());
+        assertEquals(4, errors.get(1).line());
+        assertEquals("'is_active' must be true or false", errors.get(1).errors().get(0).message());
+        assertEquals(new CategoryImportProgressResponse(3, 1, 2), actualResult);
+    }
+
+    @Test
+    void givenCsvWithoutNameColumn_whenCallsImport_shouldReportHeaderAndStop() {
+        final var input = """
+                title,description
+                Filmes,A categoria mais assistida
+                """;
+
+        final var actualResult = categoryImporter.importFrom(stream(input), CategoryImportFormat.CSV, listener);
+
+        assertEquals(1, errors.size());
+        assertEquals(1, errors.get(0).line());
+        assertEquals(new CategoryImportProgressResponse(1, 0, 1), actualResult);
+        verify(createCategoriesUseCase, never()).execute(any());
+    }
+
+    private static List<Either<Notification, CreateCategoryOutput>> created(final List<CreateCategoryCommand> commands) {
+        return commands.stream()
+                .map(aCommand -> Either.<Notification, CreateCategoryOutput>right(
+                        CreateCategoryOutput.from(CategoryID.unique().getValue())))
+                .toList();
+    }
+
+    private static ByteArrayInputStream stream(final String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
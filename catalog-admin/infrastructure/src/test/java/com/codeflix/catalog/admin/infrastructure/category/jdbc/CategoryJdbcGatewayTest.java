@@ -0,0 +1,231 @@
+package com.codeflix.catalog.admin.infrastructure.category.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.codeflix.catalog.admin.MySQLGatewayTest;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.category.DescriptionMode;
+import com.codeflix.catalog.admin.domain.exceptions.DomainException;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+import com.codeflix.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryIdType;
+import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.codeflix.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.catalog.admin.infrastructure.utils.CursorUtils;
+
+@MySQLGatewayTest
+public class CategoryJdbcGatewayTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private CategoryJdbcGateway categoryJdbcGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryJdbcGateway = new CategoryJdbcGateway(jdbcTemplate, categoryMySQLGateway, false, false, 1000);
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsFindById_shouldReturnSameCategoryAsJpa() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        entityManager.clear();
+
+        final var expectedCategory = categoryMySQLGateway.findById(aCategory.getId()).get();
+        final var actualCategory = categoryJdbcGateway.findById(aCategory.getId()).get();
+
+        assertSameCategory(expectedCategory, actualCategory);
+        assertTrue(categoryJdbcGateway.findById(CategoryID.from("empty")).isEmpty());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsFindVersionById_shouldReturnSameVersionAsJpa() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        assertEquals(
+                categoryMySQLGateway.findVersionById(aCategory.getId()),
+                categoryJdbcGateway.findVersionById(aCategory.getId()));
+        assertTrue(categoryJdbcGateway.findVersionById(CategoryID.from("empty")).isEmpty());
+    }
+
+    @Test
+    void givenBinaryIdsAndANonUuidId_whenCallsFind_shouldTreatItAsMissing() {
+        final var aGateway = new CategoryJdbcGateway(jdbcTemplate, categoryMySQLGateway, false, true, 1000);
+        final var aNonUuidId = CategoryID.from("123");
+
+        assertTrue(aGateway.findById(aNonUuidId).isEmpty());
+        assertTrue(aGateway.findVersionById(aNonUuidId).isEmpty());
+        assertTrue(aGateway.findAllByIds(List.of(aNonUuidId)).isEmpty());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllByIds_shouldReturnOnlyStoredCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        final var actualResult = categoryJdbcGateway.findAllByIds(
+                List.of(filmes.getId(), CategoryID.from("empty")));
+
+        assertEquals(1, actualResult.size());
+        assertEquals(filmes.getId(), actualResult.get(0).getId());
+        assertTrue(categoryJdbcGateway.findAllByIds(List.of()).isEmpty());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAll_shouldMatchJpaPagesTotalsAndCursors() {
+        seed();
+
+        for (final var aSort : List.of("name", "description", "active", "createdAt")) {
+            for (final var aDirection : List.of("asc", "desc")) {
+                for (final var aPage : List.of(0, 1, 2)) {
+                    final var aQuery = new CategorySearchQuery(
+                            aPage, 2, "", aSort, aDirection, null, TotalMode.EXACT, DescriptionMode.FULL);
+
+                    assertSamePage(categoryMySQLGateway.findAll(aQuery), categoryJdbcGateway.findAll(aQuery));
+                }
+            }
+        }
+
+        final var aQuery = new CategorySearchQuery(
+                0, 10, "doc", "name", "asc", null, TotalMode.EXACT, DescriptionMode.TRUNCATED);
+
+        assertSamePage(categoryMySQLGateway.findAll(aQuery), categoryJdbcGateway.findAll(aQuery));
+    }
+
+    @Test
+    void givenNullSortKeys_whenCallsFindAllFollowingCursor_shouldReturnEveryCategoryOnceInJpaOrder() {
+        seed();
+
+        for (final var aDirection : List.of("asc", "desc")) {
+            final var expectedIds = walk(categoryMySQLGateway::findAll, aDirection);
+            final var actualIds = walk(categoryJdbcGateway::findAll, aDirection);
+
+            assertEquals(5, actualIds.size());
+            assertEquals(expectedIds, actualIds);
+        }
+    }
+
+    @Test
+    void givenACursorForAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        seed();
+
+        final var aCursor = categoryJdbcGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"))
+                .nextCursor();
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryJdbcGateway.findAll(
+                new CategorySearchQuery(0, 1, "", "createdAt", "asc", aCursor)));
+
+        assertEquals("'after' cursor does not match sort 'createdAt'", actualException.getMessage());
+    }
+
+    @Test
+    void givenBinaryIdsAndAnIdCursor_whenCallsFindAll_shouldBindTheCursorValueAsBytes() {
+        final var aTemplate = Mockito.mock(NamedParameterJdbcTemplate.class);
+        final var aGateway = new CategoryJdbcGateway(aTemplate, categoryMySQLGateway, false, true, 1000);
+        final var anId = CategoryID.unique().getValue();
+        final var aCursor = CursorUtils.encodeSort("id", anId, anId);
+
+        aGateway.findAll(new CategorySearchQuery(0, 1, "", "id", "asc", aCursor));
+
+        final var params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        Mockito.verify(aTemplate).query(Mockito.anyString(), params.capture(), Mockito.<RowMapper<Category>>any());
+
+        assertArrayEquals(CategoryIdType.toBytes(anId), (byte[]) params.getValue().getValue("afterValue"));
+        assertArrayEquals(CategoryIdType.toBytes(anId), (byte[]) params.getValue().getValue("afterId"));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsStreamAll_shouldStreamEveryCategoryOrderedById() {
+        seed();
+
+        final var actualCategories = new ArrayList<Category>();
+        categoryJdbcGateway.streamAll(actualCategories::add);
+
+        final var expectedCategories = new ArrayList<Category>();
+        categoryMySQLGateway.streamAll(expectedCategories::add);
+
+        assertEquals(expectedCategories.size(), actualCategories.size());
+        for (int i = 0; i < expectedCategories.size(); i++) {
+            assertSameCategory(expectedCategories.get(i), actualCategories.get(i));
+        }
+    }
+
+    private List<String> walk(
+            final Function<CategorySearchQuery, Pagination<Category>> findAll,
+            final String aDirection) {
+        final var ids = new ArrayList<String>();
+        String after = null;
+
+        do {
+            final var actualResult = findAll.apply(new CategorySearchQuery(0, 2, "", "description", aDirection, after));
+            actualResult.items().forEach(aCategory -> ids.add(aCategory.getId().getValue()));
+            after = actualResult.nextCursor();
+        } while (after != null);
+
+        return ids;
+    }
+
+    private void seed() {
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", "Uma categoria assistida", true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", "A categoria menos assistida", false)),
+                CategoryJpaEntity.from(Category.newCategory("Kids", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Esportes", "Categoria de esportes", false))));
+        entityManager.clear();
+    }
+
+    private static void assertSamePage(final Pagination<Category> expected, final Pagination<Category> actual) {
+        assertEquals(expected.currentPage(), actual.currentPage());
+        assertEquals(expected.perPage(), actual.perPage());
+        assertEquals(expected.total(), actual.total());
+        assertEquals(expected.nextCursor(), actual.nextCursor());
+        assertEquals(expected.items().size(), actual.items().size());
+        for (int i = 0; i < expected.items().size(); i++) {
+            assertSameCategory(expected.items().get(i), actual.items().get(i));
+        }
+    }
+
+    private static void assertSameCategory(final Category expected, final Category actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.isActive(), actual.isActive());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getDeletedAt(), actual.getDeletedAt());
+    }
+}
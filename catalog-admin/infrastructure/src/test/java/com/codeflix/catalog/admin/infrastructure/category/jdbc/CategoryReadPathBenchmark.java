@@ -0,0 +1,95 @@
+package com.codeflix.catalog.admin.infrastructure.category.jdbc;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+import com.codeflix.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import com.codeflix.catalog.admin.infrastructure.configuration.WebServerConfig;
+
+/**
+ * Measures CPU time and allocation per read on the JPA gateway and on the plain-JDBC gateway against the in-memory
+ * test database, so the numbers reflect mapping overhead rather than network or disk.
+ * Run with {@code ./gradlew :infrastructure:benchmarkReadPaths}.
+ */
+public class CategoryReadPathBenchmark {
+
+    private static final int CATEGORIES = 5_000;
+    private static final int ITERATIONS = 20_000;
+    private static final int PER_PAGE = 50;
+
+    public static void main(final String[] args) {
+        final var context = new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test-integration", CategoryJdbcGateway.PROFILE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+
+        try {
+            final var jpaGateway = context.getBean(CategoryMySQLGateway.class);
+            final var jdbcGateway = context.getBean(CategoryJdbcGateway.class);
+            final var ids = seed(jpaGateway);
+
+            for (final var aGateway : List.of(jpaGateway, jdbcGateway)) {
+                final var aName = aGateway == jpaGateway ? "jpa" : "jdbc";
+
+                measure(aName + " findById", ITERATIONS, () -> aGateway.findById(randomOf(ids)));
+                measure(aName + " findAll", ITERATIONS / 10, () -> aGateway.findAll(randomPage()));
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static List<CategoryID> seed(final CategoryGateway aGateway) {
+        final var categories = new ArrayList<Category>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(Category.newCategory("Category " + i, "Description of category " + i, i % 3 != 0));
+        }
+
+        for (int i = 0; i < CATEGORIES; i += 500) {
+            aGateway.createAll(categories.subList(i, Math.min(i + 500, CATEGORIES)));
+        }
+
+        return categories.stream().map(Category::getId).toList();
+    }
+
+    private static void measure(final String aName, final int iterations, final Runnable aRead) {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var aThread = Thread.currentThread().getId();
+
+        for (int i = 0; i < iterations / 4; i++) {
+            aRead.run();
+        }
+
+        final var cpuBefore = threads.getCurrentThreadCpuTime();
+        final var allocatedBefore = threads.getThreadAllocatedBytes(aThread);
+
+        for (int i = 0; i < iterations; i++) {
+            aRead.run();
+        }
+
+        final var cpuMicros = (threads.getCurrentThreadCpuTime() - cpuBefore) / 1_000.0 / iterations;
+        final var allocatedKb = (threads.getThreadAllocatedBytes(aThread) - allocatedBefore) / 1_024.0 / iterations;
+
+        System.out.printf("%-14s %,7d reads, %,9.1f us cpu/read, %,9.1f KB allocated/read%n",
+                aName, iterations, cpuMicros, allocatedKb);
+    }
+
+    private static CategoryID randomOf(final List<CategoryID> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static CategorySearchQuery randomPage() {
+        final var aPage = ThreadLocalRandom.current().nextInt(CATEGORIES / PER_PAGE);
+        return new CategorySearchQuery(aPage, PER_PAGE, "", "name", "asc", null, TotalMode.NONE);
+    }
+}
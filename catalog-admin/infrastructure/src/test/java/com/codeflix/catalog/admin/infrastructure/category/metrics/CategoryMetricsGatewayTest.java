@@ -0,0 +1,78 @@
+package com.codeflix.catalog.admin.infrastructure.category.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryMetricsGatewayTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void givenAnAnsweredCall_whenCallsFindById_shouldTimeItAsSuccess() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aGateway = CategoryMetricsGateway.create(categoryGateway, meterRegistry);
+
+        when(categoryGateway.findById(any())).thenReturn(Optional.of(aCategory));
+
+        assertSame(aCategory, aGateway.findById(aCategory.getId()).orElseThrow());
+
+        assertEquals(1, meterRegistry.get(CategoryMetricsGateway.METRIC_NAME)
+                .tag("method", "findById")
+                .tag("outcome", "success")
+                .timer()
+                .count());
+        assertEquals(0, meterRegistry.get(CategoryMetricsGateway.METRIC_NAME)
+                .tag("method", "create")
+                .tag("outcome", "success")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void givenAFailingCall_whenCallsFindById_shouldRethrowAndCountTheError() {
+        final var aGateway = CategoryMetricsGateway.create(categoryGateway, meterRegistry);
+
+        when(categoryGateway.findById(any())).thenThrow(new QueryTimeoutException("statement timed out"));
+
+        assertThrows(QueryTimeoutException.class, () -> aGateway.findById(CategoryID.unique()));
+
+        assertEquals(1, meterRegistry.get(CategoryMetricsGateway.METRIC_NAME)
+                .tag("method", "findById")
+                .tag("outcome", "error")
+                .tag("exception", "QueryTimeoutException")
+                .timer()
+                .count());
+        assertEquals(1, meterRegistry.get(CategoryMetricsGateway.METRIC_NAME + ".errors")
+                .tag("method", "findById")
+                .tag("exception", "QueryTimeoutException")
+                .counter()
+                .count());
+    }
+}
@@ -0,0 +1,98 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCountEstimatorTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    CategoryRepository categoryRepository;
+
+    @Mock
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    void givenNoTerms_whenCallsEstimate_shouldReadTheTableStatistics() {
+        final var anEstimator = new CategoryCountEstimator(categoryRepository, jdbcTemplate, TTL, true);
+
+        when(jdbcTemplate.queryForObject(eq(CategoryCountEstimator.TABLE_ROWS), any(SqlParameterSource.class), eq(Long.class)))
+                .thenReturn(1_000_000L);
+
+        assertEquals(1_000_000L, anEstimator.estimate("", null, null));
+        assertEquals(1_000_000L, anEstimator.estimate(null, null, null));
+
+        verify(jdbcTemplate, times(1))
+                .queryForObject(eq(CategoryCountEstimator.TABLE_ROWS), any(SqlParameterSource.class), eq(Long.class));
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenAFullTextQueryMatchingManyRows_whenCallsEstimate_shouldCountThemInsteadOfTrustingExplain() {
+        final var anEstimator = new CategoryCountEstimator(categoryRepository, jdbcTemplate, TTL, true);
+        final Specification<CategoryJpaEntity> whereClause = Specification.where(null);
+
+        // what EXPLAIN answers for any fulltext index lookup
+        lenient().when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+                .thenReturn(1L);
+        when(categoryRepository.count(whereClause)).thenReturn(42L);
+
+        assertEquals(42L, anEstimator.estimate("Filmes", "+Filmes*", whereClause));
+        assertEquals(42L, anEstimator.estimate("Filmes", "+Filmes*", whereClause));
+
+        verify(categoryRepository, times(1)).count(whereClause);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenLikeTerms_whenCallsEstimate_shouldExplainTheLikeFilter() {
+        final var anEstimator = new CategoryCountEstimator(categoryRepository, jdbcTemplate, TTL, true);
+
+        when(jdbcTemplate.query(
+                eq(CategoryCountEstimator.EXPLAIN_LIKE),
+                argThat((SqlParameterSource params) -> "%FI%".equals(params.getValue("terms"))),
+                any(ResultSetExtractor.class)))
+                .thenReturn(7L);
+
+        assertEquals(7L, anEstimator.estimate("fi", null, null));
+        assertEquals(7L, anEstimator.estimate(" FI ", null, null));
+
+        verifyNoInteractions(categoryRepository);
+    }
+
+    @Test
+    void givenNoStatistics_whenCallsEstimate_shouldCountOncePerTtl() {
+        final var anEstimator = new CategoryCountEstimator(categoryRepository, jdbcTemplate, TTL, false);
+        final Specification<CategoryJpaEntity> whereClause = Specification.where(null);
+
+        when(categoryRepository.count(whereClause)).thenReturn(3L);
+
+        assertEquals(3L, anEstimator.estimate("", null, whereClause));
+        assertEquals(3L, anEstimator.estimate("", null, whereClause));
+
+        verify(categoryRepository, times(1)).count(whereClause);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
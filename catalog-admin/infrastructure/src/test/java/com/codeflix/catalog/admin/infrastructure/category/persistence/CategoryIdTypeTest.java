@@ -0,0 +1,44 @@
+package com.codeflix.catalog.admin.infrastructure.category.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class CategoryIdTypeTest {
+
+    private static final String AN_ID = "0190a6f1-7c2b-7d3e-8f4a-5b6c7d8e9f00";
+
+    @Test
+    void givenAnUuidString_whenBoundAsBinary_thenShouldUseItsSixteenBytes() {
+        final var descriptor = CategoryIdType.BINARY.getJavaTypeDescriptor();
+
+        final var actualBytes = descriptor.unwrap(AN_ID, byte[].class, null);
+
+        assertEquals(16, actualBytes.length);
+        assertArrayEquals(
+                new byte[] { 0x01, (byte) 0x90, (byte) 0xa6, (byte) 0xf1, 0x7c, 0x2b, 0x7d, 0x3e },
+                Arrays.copyOf(actualBytes, 8));
+        assertEquals(AN_ID, descriptor.wrap(actualBytes, null));
+    }
+
+    @Test
+    void givenANonUuidString_whenBoundAsBinary_thenShouldFail() {
+        final var descriptor = CategoryIdType.BINARY.getJavaTypeDescriptor();
+
+        assertThrows(IllegalArgumentException.class, () -> descriptor.unwrap("123", byte[].class, null));
+    }
+
+    @Test
+    void givenIdStrings_whenCallsIsUuid_thenOnlyTheCanonicalFormShouldPass() {
+        assertTrue(CategoryIdType.isUuid(AN_ID));
+        assertFalse(CategoryIdType.isUuid("123"));
+        assertFalse(CategoryIdType.isUuid("1-1-1-1-1"));
+        assertFalse(CategoryIdType.isUuid(null));
+    }
+}
@@ -0,0 +1,91 @@
+package com.codeflix.catalog.admin.infrastructure.category.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+
+@ExtendWith(MockitoExtension.class)
+class CategorySearchIndexGatewayTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Test
+    void givenPersistedCategories_whenLoadAndSearch_shouldAnswerFromIndex() {
+        final var films = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        when(categoryGateway.findAll(argThat(query -> query != null && query.after() == null)))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(films), "next"));
+        when(categoryGateway.findAll(argThat(query -> query != null && "next".equals(query.after()))))
+                .thenReturn(new Pagination<>(0, 500, -1, List.of(series), null));
+
+        final var aGateway = CategorySearchIndexGateway.load(categoryGateway);
+
+        final var actualResult = aGateway.findAll(
+                new CategorySearchQuery(0, 10, "series", "name", "asc", null, TotalMode.EXACT));
+
+        assertEquals(1, actualResult.total());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+        verify(categoryGateway, times(2)).findAll(any());
+    }
+
+    @Test
+    void givenWrites_whenCallsGateway_shouldKeepIndexInSync() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aGateway = new CategorySearchIndexGateway(categoryGateway, new CategorySearchIndex());
+        final var aQuery = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+
+        when(categoryGateway.create(aCategory)).thenReturn(aCategory);
+
+        aGateway.create(aCategory);
+
+        assertEquals(1, aGateway.findAll(aQuery).items().size());
+
+        aGateway.deleteById(aCategory.getId());
+
+        assertTrue(aGateway.findAll(aQuery).items().isEmpty());
+        verify(categoryGateway, times(1)).deleteById(aCategory.getId());
+        verify(categoryGateway, never()).findAll(any());
+    }
+
+    @Test
+    void givenAQueryWithoutTerms_whenCallsFindAll_shouldDelegate() {
+        final var aGateway = new CategorySearchIndexGateway(categoryGateway, new CategorySearchIndex());
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var expectedPage = new Pagination<Category>(0, 10, 0, List.of());
+
+        when(categoryGateway.findAll(aQuery)).thenReturn(expectedPage);
+
+        assertEquals(expectedPage, aGateway.findAll(aQuery));
+    }
+
+    @Test
+    void givenTermsWithoutTokens_whenCallsFindAll_shouldDelegate() {
+        final var aGateway = new CategorySearchIndexGateway(categoryGateway, new CategorySearchIndex());
+        final var aQuery = new CategorySearchQuery(0, 10, "%%", "name", "asc");
+        final var expectedPage = new Pagination<Category>(0, 10, 0, List.of());
+
+        when(categoryGateway.findAll(aQuery)).thenReturn(expectedPage);
+
+        assertEquals(expectedPage, aGateway.findAll(aQuery));
+    }
+}
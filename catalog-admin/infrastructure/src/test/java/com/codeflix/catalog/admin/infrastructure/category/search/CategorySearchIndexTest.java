@@ -0,0 +1,168 @@
+package com.codeflix.catalog.admin.infrastructure.category.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategorySearchQuery;
+import com.codeflix.catalog.admin.domain.pagination.Pagination;
+import com.codeflix.catalog.admin.domain.pagination.TotalMode;
+
+class CategorySearchIndexTest {
+
+    @Test
+    void givenIndexedCategories_whenSearchByAccentAndCaseFoldedPrefix_shouldReturnMatches() {
+        final var films = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        final var documentaries = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+        final var searchIndex = new CategorySearchIndex();
+        List.of(films, series, documentaries).forEach(searchIndex::put);
+
+        assertEquals(List.of(series.getId()), ids(searchIndex.search("SERIE")));
+        assertEquals(List.of(documentaries.getId()), ids(searchIndex.search("documentario")));
+        assertEquals(List.of(films.getId()), ids(searchIndex.search("mais assist")));
+        assertEquals(3, searchIndex.search("categ").size());
+        assertTrue(searchIndex.search("novelas").isEmpty());
+    }
+
+    @Test
+    void givenAnIndexedCategory_whenUpdatedAndRemoved_shouldKeepPostingsInSync() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var searchIndex = new CategorySearchIndex();
+        searchIndex.put(aCategory);
+
+        searchIndex.put(Category.with(aCategory).update("Séries", null, true));
+
+        assertTrue(searchIndex.search("filmes").isEmpty());
+        assertEquals(List.of(aCategory.getId()), ids(searchIndex.search("series")));
+
+        searchIndex.remove(aCategory.getId());
+
+        assertTrue(searchIndex.search("series").isEmpty());
+        assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    void givenAQuery_whenSearchFollowingCursor_shouldReturnSortedPages() {
+        final var films = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        final var documentaries = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+        final var searchIndex = new CategorySearchIndex();
+        List.of(films, series, documentaries).forEach(searchIndex::put);
+
+        var aQuery = new CategorySearchQuery(0, 2, "categoria", "name", "desc", null, TotalMode.EXACT);
+        var actualResult = searchIndex.search(aQuery).get();
+
+        assertEquals(3, actualResult.total());
+        assertEquals(List.of(series.getId(), films.getId()), ids(actualResult.items()));
+        assertNotNull(actualResult.nextCursor());
+
+        aQuery = new CategorySearchQuery(0, 2, "categoria", "name", "desc", actualResult.nextCursor(), TotalMode.NONE);
+        actualResult = searchIndex.search(aQuery).get();
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertEquals(List.of(documentaries.getId()), ids(actualResult.items()));
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenManyMatches_whenSearchByPageOrCursor_shouldReturnTheSameSlicesAsAFullSort() {
+        final var searchIndex = new CategorySearchIndex();
+        final var categories = new ArrayList<Category>();
+        for (var i = 0; i < 50; i++) {
+            final var aCategory = Category.newCategory("Categoria %02d".formatted((i * 37) % 50), null, true);
+            categories.add(aCategory);
+            searchIndex.put(aCategory);
+        }
+
+        final var expectedIds = categories.stream()
+                .sorted(Comparator.comparing(Category::getName).reversed())
+                .map(Category::getId)
+                .toList();
+
+        final var aPage = searchIndex.search(
+                new CategorySearchQuery(2, 7, "categoria", "name", "desc", null, TotalMode.EXACT)).get();
+
+        assertEquals(50, aPage.total());
+        assertEquals(expectedIds.subList(14, 21), ids(aPage.items()));
+
+        final var actualIds = new ArrayList<>();
+        String after = null;
+        do {
+            final var aSlice = searchIndex.search(
+                    new CategorySearchQuery(0, 7, "categoria", "name", "desc", after, TotalMode.NONE)).get();
+            actualIds.addAll(ids(aSlice.items()));
+            after = aSlice.nextCursor();
+        } while (after != null);
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenSearch_shouldReturnEmpty() {
+        final var searchIndex = new CategorySearchIndex();
+
+        final var aQuery = new CategorySearchQuery(0, 10, "filmes", "unknown", "asc");
+
+        assertTrue(searchIndex.search(aQuery).isEmpty());
+    }
+
+    @Test
+    void givenARelevanceSort_whenSearch_shouldRankWholeWordsAndNamesFirst() {
+        final var films = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var filmsOfTheYear = Category.newCategory("Filmes do ano", null, true);
+        final var shorts = Category.newCategory("Curtas", "Filmes curtos", true);
+        final var filmographies = Category.newCategory("Filmografias", null, true);
+
+        final var searchIndex = new CategorySearchIndex();
+        List.of(shorts, filmographies, filmsOfTheYear, films).forEach(searchIndex::put);
+
+        final var actualPage = searchIndex.search(
+                new CategorySearchQuery(0, 10, "filmes", "relevance", "desc")).orElseThrow();
+
+        final var expectedIds = new ArrayList<>(List.of(films.getId().getValue(), filmsOfTheYear.getId().getValue()));
+        expectedIds.sort(Comparator.naturalOrder());
+        expectedIds.add(shorts.getId().getValue());
+
+        assertEquals(expectedIds, actualPage.items().stream().map(it -> it.getId().getValue()).toList());
+        assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    void givenTermsWithoutTokens_whenSearch_shouldReturnEmpty() {
+        final var searchIndex = new CategorySearchIndex();
+        searchIndex.put(Category.newCategory("Filmes", null, true));
+
+        assertTrue(searchIndex.search(new CategorySearchQuery(0, 10, "-- !!", "name", "asc")).isEmpty());
+    }
+
+    @Test
+    void givenAnOlderVersion_whenPut_shouldKeepTheNewerOne() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var aNewer = Category.with(
+                aCategory.getId(), "Séries", null, true,
+                aCategory.getCreatedAt(), aCategory.getUpdatedAt(), null, aCategory.getVersion() + 1);
+
+        final var searchIndex = new CategorySearchIndex();
+        searchIndex.put(aNewer);
+        searchIndex.put(aCategory);
+
+        assertTrue(searchIndex.search("filmes").isEmpty());
+        assertEquals(List.of(aCategory.getId()), ids(searchIndex.search("series")));
+    }
+
+    private static List<?> ids(final List<Category> categories) {
+        return categories.stream().map(Category::getId).toList();
+    }
+}
@@ -0,0 +1,92 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    DataSource primaryDataSource;
+
+    @Mock
+    DataSource replicaDataSource;
+
+    @Mock
+    Connection primaryConnection;
+
+    @Mock
+    Connection replicaConnection;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void givenAReadOnlyTransactionAndAHealthyReplica_whenCallsGetConnection_shouldUseReplica() throws Exception {
+        final var aDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, () -> true, meterRegistry);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+        assertSame(replicaConnection, aDataSource.getConnection());
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    @Test
+    void givenAReadWriteTransaction_whenCallsGetConnection_shouldUsePrimary() throws Exception {
+        final var aDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, () -> true, meterRegistry);
+
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, aDataSource.getConnection());
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    void givenAnUnavailableReplica_whenCallsGetConnectionInAReadOnlyTransaction_shouldUsePrimary() throws Exception {
+        final var aDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, () -> false, meterRegistry);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, aDataSource.getConnection());
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    void givenAReplicaPoolTimeout_whenCallsGetConnectionInAReadOnlyTransaction_shouldFallbackToPrimary() throws Exception {
+        final var aDataSource = new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, () -> true, meterRegistry);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        when(replicaDataSource.getConnection())
+                .thenThrow(new SQLTransientConnectionException("replica - Connection is not available"));
+        when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, aDataSource.getConnection());
+        assertEquals(1, meterRegistry.get(ReadWriteRoutingDataSource.FALLBACK_METRIC)
+                .tag("exception", "SQLTransientConnectionException")
+                .counter()
+                .count());
+    }
+}
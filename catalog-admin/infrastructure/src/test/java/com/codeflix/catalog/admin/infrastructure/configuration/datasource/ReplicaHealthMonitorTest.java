@@ -0,0 +1,114 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaHealthMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+    private static final Duration INTERVAL = Duration.ofSeconds(2);
+
+    @Mock
+    HikariDataSource replicaDataSource;
+
+    @Mock
+    HikariPoolMXBean replicaPool;
+
+    @Mock
+    Connection aConnection;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(replicaDataSource.getHikariPoolMXBean()).thenReturn(replicaPool);
+        lenient().when(replicaDataSource.getMaximumPoolSize()).thenReturn(2);
+        lenient().when(replicaPool.getIdleConnections()).thenReturn(1);
+    }
+
+    @Test
+    void givenLagWithinTolerance_whenCallsCheck_shouldBeAvailable() throws Exception {
+        when(replicaDataSource.getConnection()).thenReturn(aConnection);
+
+        final var aMonitor = monitor(connection -> Optional.of(Duration.ofSeconds(3)));
+        aMonitor.check();
+
+        assertTrue(aMonitor.isHealthy());
+        assertTrue(aMonitor.isAvailable());
+    }
+
+    @Test
+    void givenLagAboveTolerance_whenCallsCheck_shouldBeUnavailable() throws Exception {
+        when(replicaDataSource.getConnection()).thenReturn(aConnection);
+
+        final var aMonitor = monitor(connection -> Optional.of(Duration.ofSeconds(30)));
+        aMonitor.check();
+
+        assertFalse(aMonitor.isAvailable());
+    }
+
+    @Test
+    void givenStoppedReplication_whenCallsCheck_shouldBeUnavailable() throws Exception {
+        when(replicaDataSource.getConnection()).thenReturn(aConnection);
+
+        final var aMonitor = monitor(connection -> Optional.empty());
+        aMonitor.check();
+
+        assertFalse(aMonitor.isAvailable());
+    }
+
+    @Test
+    void givenAnUnreachableReplica_whenCallsCheck_shouldBeUnavailable() throws Exception {
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("Communications link failure"));
+
+        final var aMonitor = monitor(connection -> Optional.of(Duration.ZERO));
+        aMonitor.check();
+
+        assertFalse(aMonitor.isAvailable());
+    }
+
+    @Test
+    void givenAnExhaustedReplicaPool_whenCallsIsAvailable_shouldBeUnavailableAndKeepLastCheck() throws Exception {
+        when(replicaDataSource.getConnection()).thenReturn(aConnection);
+
+        final var aMonitor = monitor(connection -> Optional.of(Duration.ZERO));
+        aMonitor.check();
+
+        when(replicaPool.getIdleConnections()).thenReturn(0);
+        when(replicaPool.getActiveConnections()).thenReturn(2);
+        aMonitor.check();
+
+        assertTrue(aMonitor.isHealthy());
+        assertFalse(aMonitor.isAvailable());
+        verify(replicaDataSource).getConnection();
+    }
+
+    @Test
+    void givenANewMonitor_whenNotChecked_shouldBeUnavailable() throws Exception {
+        final var aMonitor = monitor(connection -> Optional.of(Duration.ZERO));
+
+        assertFalse(aMonitor.isAvailable());
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    private ReplicaHealthMonitor monitor(final ReplicationLag aLag) {
+        return new ReplicaHealthMonitor(replicaDataSource, aLag, MAX_LAG, INTERVAL);
+    }
+}
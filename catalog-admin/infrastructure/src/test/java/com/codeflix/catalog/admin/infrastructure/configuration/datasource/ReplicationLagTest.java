@@ -0,0 +1,57 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationLagTest {
+
+    @Mock
+    Connection aConnection;
+
+    @Mock
+    Statement aStatement;
+
+    @Mock
+    ResultSet aResultSet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(aConnection.createStatement()).thenReturn(aStatement);
+        when(aStatement.executeQuery("SHOW REPLICA STATUS")).thenReturn(aResultSet);
+    }
+
+    @Test
+    void givenAReplicaBehindTheSource_whenCallsMeasure_shouldReturnItsLag() throws Exception {
+        when(aResultSet.next()).thenReturn(true);
+        when(aResultSet.getLong("Seconds_Behind_Source")).thenReturn(3L);
+
+        assertEquals(Duration.ofSeconds(3), ReplicationLag.MYSQL.measure(aConnection).get());
+    }
+
+    @Test
+    void givenAServerWithoutReplicaStatus_whenCallsMeasure_shouldReportBrokenReplication() throws Exception {
+        when(aResultSet.next()).thenReturn(false);
+
+        assertTrue(ReplicationLag.MYSQL.measure(aConnection).isEmpty());
+    }
+
+    @Test
+    void givenAServerWithoutReplicaStatusThatIsAllowed_whenCallsMeasure_shouldReportZeroLag() throws Exception {
+        when(aResultSet.next()).thenReturn(false);
+
+        assertEquals(Duration.ZERO, ReplicationLag.mysql(true).measure(aConnection).get());
+    }
+}
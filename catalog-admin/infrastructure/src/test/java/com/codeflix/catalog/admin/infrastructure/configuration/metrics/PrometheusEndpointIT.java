@@ -0,0 +1,47 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.metrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.codeflix.catalog.admin.IntegrationTest;
+import com.codeflix.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+@IntegrationTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class PrometheusEndpointIT {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Test
+    void givenAMissingCategory_whenScrapingPrometheus_shouldExposeUseCaseGatewayAndPoolMetrics() throws Exception {
+        final var anId = CategoryID.unique().getValue();
+
+        assertThrows(NotFoundException.class, () -> getCategoryByIdUseCase.execute(anId));
+
+        mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "categories_usecase_seconds_count{exception=\"NotFoundException\",outcome=\"not_found\",usecase=\"GetCategoryByIdUseCase\",} 1.0")))
+                .andExpect(content().string(containsString(
+                        "categories_usecase_errors_total{exception=\"NotFoundException\",outcome=\"not_found\",usecase=\"GetCategoryByIdUseCase\",} 1.0")))
+                .andExpect(content().string(containsString(
+                        "categories_gateway_seconds_bucket{exception=\"none\",gateway=\"CategoryMySQLGateway\",method=\"findById\",outcome=\"success\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket{")));
+    }
+}
@@ -0,0 +1,106 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.codeflix.catalog.admin.application.category.create.CreateCategoryCommand;
+import com.codeflix.catalog.admin.application.category.create.DefaultCreateCategoryUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.codeflix.catalog.admin.domain.category.AsyncCategoryGateway;
+import com.codeflix.catalog.admin.domain.category.Category;
+import com.codeflix.catalog.admin.domain.category.CategoryGateway;
+import com.codeflix.catalog.admin.domain.category.CategoryID;
+import com.codeflix.catalog.admin.domain.category.CategoryIdGenerator;
+import com.codeflix.catalog.admin.domain.exceptions.NotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class UseCaseMetricsAspectTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Mock
+    AsyncCategoryGateway asyncCategoryGateway;
+
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void givenAnInvalidCommand_whenCallsCreateCategory_shouldTimeTheLeftAsInvalid() {
+        final var aUseCase = advised(new DefaultCreateCategoryUseCase(categoryGateway, CategoryIdGenerator.RANDOM));
+
+        assertTrue(aUseCase.execute(CreateCategoryCommand.with(null, null, true)).isLeft());
+
+        assertEquals(1, timerCount("CreateCategoryUseCase", "invalid"));
+        assertEquals(0, timerCount("CreateCategoryUseCase", "success"));
+        assertEquals(1, meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME + ".errors")
+                .tag("usecase", "CreateCategoryUseCase")
+                .tag("outcome", "invalid")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void givenAMissingCategory_whenCallsGetCategory_shouldTimeItAsNotFound() {
+        final var aUseCase = advised(new DefaultGetCategoryByIdUseCase(categoryGateway));
+
+        when(categoryGateway.findById(any())).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> aUseCase.execute(CategoryID.unique().getValue()));
+
+        assertEquals(1, timerCount("GetCategoryByIdUseCase", "not_found"));
+    }
+
+    @Test
+    void givenAnAsyncUseCase_whenTheStageCompletes_shouldTimeItThen() {
+        final var aUseCase = advised(new DefaultAsyncGetCategoryByIdUseCase(asyncCategoryGateway));
+        final var aLookup = new CompletableFuture<Optional<Category>>();
+
+        when(asyncCategoryGateway.findById(any())).thenReturn(aLookup);
+
+        final var aStage = aUseCase.execute(CategoryID.unique().getValue()).toCompletableFuture();
+        assertNull(meterRegistry.find(UseCaseMetricsAspect.METRIC_NAME).tag("outcome", "not_found").timer());
+
+        aLookup.complete(Optional.empty());
+
+        assertThrows(ExecutionException.class, aStage::get);
+        assertEquals(1, timerCount("AsyncGetCategoryByIdUseCase", "not_found"));
+    }
+
+    private long timerCount(final String aUseCase, final String anOutcome) {
+        return meterRegistry.get(UseCaseMetricsAspect.METRIC_NAME)
+                .tag("usecase", aUseCase)
+                .tag("outcome", anOutcome)
+                .timer()
+                .count();
+    }
+
+    private <T> T advised(final T aUseCase) {
+        final var aFactory = new AspectJProxyFactory(aUseCase);
+        aFactory.setProxyTargetClass(true);
+        aFactory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        return aFactory.getProxy();
+    }
+}
@@ -0,0 +1,34 @@
+package com.codeflix.catalog.admin.infrastructure.configuration.threads;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsTest {
+
+    @Test
+    void givenTheRunningJdk_whenCallsNewExecutor_shouldRunOnVirtualThreadsOrFailClearly() throws Exception {
+        final var supported = Runtime.version().feature() >= 21;
+
+        assertEquals(supported, VirtualThreads.isSupported());
+
+        if (!supported) {
+            assertThrows(IllegalStateException.class, VirtualThreads::newExecutor);
+            return;
+        }
+
+        final var anExecutor = VirtualThreads.newExecutor();
+        try {
+            final var isVirtual = anExecutor
+                    .submit(() -> (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertEquals(true, isVirtual);
+        } finally {
+            anExecutor.shutdown();
+        }
+    }
+}
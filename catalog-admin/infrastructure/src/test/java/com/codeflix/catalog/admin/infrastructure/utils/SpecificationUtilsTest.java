@@ -0,0 +1,33 @@
+package com.codeflix.catalog.admin.infrastructure.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class SpecificationUtilsTest {
+
+    @Test
+    void givenWords_whenCallsBooleanQuery_thenEveryWordShouldBeARequiredPrefix() {
+        assertEquals(Optional.of("+filmes* +acao*"), SpecificationUtils.booleanQuery("filmes  acao"));
+    }
+
+    @Test
+    void givenOperators_whenCallsBooleanQuery_thenTheyShouldBeStripped() {
+        assertEquals(Optional.of("+filmes* +acao*"), SpecificationUtils.booleanQuery("+filmes -\"acao\"*"));
+    }
+
+    @Test
+    void givenShortWordsAndStopwords_whenCallsBooleanQuery_thenTheyShouldBeDropped() {
+        assertEquals(Optional.of("+men*"), SpecificationUtils.booleanQuery("x-men"));
+        assertEquals(Optional.of("+Matrix*"), SpecificationUtils.booleanQuery("The Matrix"));
+    }
+
+    @Test
+    void givenNoIndexedWords_whenCallsBooleanQuery_thenShouldReturnEmpty() {
+        assertTrue(SpecificationUtils.booleanQuery("--").isEmpty());
+        assertTrue(SpecificationUtils.booleanQuery("of a").isEmpty());
+    }
+}